@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Apply this to implementation classes or provider methods that should have one instance per
+ * object graph: all the objects that Guice creates for an outermost provision, such as a call to
+ * {@link Injector#getInstance}, {@link Injector#getInstances} or {@link Provider#get} outside of
+ * any provision, share an instance, which is forgotten once that provision returns. See {@link
+ * Scopes#GRAPH}.
+ *
+ * <p>A {@link Provider} that is injected and called after the provision that injected it returned
+ * starts a new graph. The eager singletons of an injector are created in a single graph.
+ *
+ * @since 7.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RUNTIME)
+@ScopeAnnotation
+public @interface GraphScoped {}
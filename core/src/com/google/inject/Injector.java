@@ -16,13 +16,18 @@
 
 package com.google.inject;
 
+import com.google.inject.internal.InstancesImpl;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.TypeConverterBinding;
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Builds the graphs of objects that make up your application. The injector tracks the dependencies
@@ -199,6 +204,62 @@ public interface Injector {
    */
   <T> T getInstance(Class<T> type);
 
+  /**
+   * Returns a future of the instance for the given injection key, which is provisioned on {@code
+   * executor}. Before provisioning it, the singletons that it transitively depends on are created
+   * concurrently on {@code executor}, so that when they are slow to create, such as when they fetch
+   * configuration, provisioning takes about as long as the slowest chain of them rather than their
+   * sum. Dependencies on {@link Provider providers} are not followed.
+   *
+   * <p>If {@code key} isn't bound, but {@code CompletionStage<T>} with the same annotation is, such
+   * as by a {@link Provides} method that returns a {@code CompletionStage}, the returned future
+   * completes with the result of that stage.
+   *
+   * <p>The future fails with a {@link ConfigurationException} if this injector cannot find or
+   * create the binding, or with a {@link ProvisionException} if there was a runtime failure while
+   * providing the instance.
+   *
+   * <p>The default implementation provisions the instance with {@link #getInstance(Key)} on {@code
+   * executor}, without creating its dependencies concurrently.
+   *
+   * @since 7.1
+   */
+  default <T> CompletableFuture<T> getInstanceAsync(Key<T> key, Executor executor) {
+    return CompletableFuture.supplyAsync(() -> getInstance(key), executor);
+  }
+
+  /**
+   * Returns the instances for the given injection keys, in the same order; equivalent to calling
+   * {@link #getInstance(Key)} for each key, but cheaper when there are many keys. The bindings of
+   * all keys are found before any instance is provisioned, and the instances are provisioned
+   * within a single provisioning context.
+   *
+   * @throws ConfigurationException if this injector cannot find or create the binding of any of
+   *     the keys; the exception lists every such key
+   * @throws ProvisionException if there was a runtime failure while providing an instance.
+   * @since 7.1
+   */
+  default Instances getInstances(Key<?>... keys) {
+    return getInstances(Arrays.asList(keys));
+  }
+
+  /**
+   * Returns the instances for the given injection keys, in iteration order. See {@link
+   * #getInstances(Key...)}.
+   *
+   * <p>The default implementation calls {@link #getInstance(Key)} for each key in turn.
+   *
+   * @since 7.1
+   */
+  default Instances getInstances(Collection<? extends Key<?>> keys) {
+    Key<?>[] keyArray = keys.toArray(new Key<?>[0]);
+    Object[] instances = new Object[keyArray.length];
+    for (int i = 0; i < keyArray.length; i++) {
+      instances[i] = getInstance(keyArray[i]);
+    }
+    return new InstancesImpl(keyArray, instances);
+  }
+
   /**
    * Returns this injector's parent, or {@code null} if this is a top-level injector.
    *
@@ -308,4 +369,21 @@ public interface Injector {
    * @since 4.2.3
    */
   Map<TypeLiteral<?>, List<InjectionPoint>> getAllMembersInjectorInjectionPoints();
+
+  /**
+   * Releases the just-in-time bindings of this injector and the injectors it cached for them. For a
+   * child injector, this also releases the keys it reserved in its ancestors, so that they wouldn't
+   * create conflicting just-in-time bindings. Otherwise these are only released once the injector
+   * is garbage collected.
+   *
+   * <p>Neither this injector nor its child injectors may be used after it's closed: looking up
+   * bindings or providers, provisioning or injecting instances, and creating child injectors throw
+   * {@link IllegalStateException}. Instances that it already provided, including singletons, are
+   * unaffected. Closing an injector again has no effect.
+   *
+   * <p>The default implementation does nothing.
+   *
+   * @since 7.1
+   */
+  default void close() {}
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import java.util.List;
+
+/**
+ * The instances that an {@link Injector#getInstances injector} provisioned for a batch of keys,
+ * in the order of the keys.
+ *
+ * @since 7.1
+ */
+public interface Instances {
+
+  /** Returns the number of keys in the batch, including repeated keys. */
+  int size();
+
+  /** Returns the key at {@code index} in the batch. */
+  Key<?> getKey(int index);
+
+  /** Returns the instance for the key at {@code index} in the batch. */
+  Object get(int index);
+
+  /**
+   * Returns the instance for {@code key}. If the key was requested several times, this returns
+   * the instance for its first occurrence.
+   *
+   * @throws IllegalArgumentException if {@code key} wasn't requested
+   */
+  <T> T get(Key<T> key);
+
+  /**
+   * Returns the instance for {@code type}, without a binding annotation.
+   *
+   * @throws IllegalArgumentException if the key of {@code type} wasn't requested
+   */
+  default <T> T get(Class<T> type) {
+    return get(Key.get(type));
+  }
+
+  /** Returns a list view of the instances, in the order of the keys. */
+  List<Object> asList();
+}
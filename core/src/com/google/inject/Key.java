@@ -23,9 +23,11 @@ import static com.google.inject.internal.Annotations.isAllDefaultMethods;
 
 import com.google.errorprone.annotations.CheckReturnValue;
 import com.google.inject.internal.Annotations;
+import com.google.inject.internal.Interning;
 import com.google.inject.internal.MoreTypes;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 
 /**
  * Guice uses Key objects to identify a dependency that can be resolved by the Guice {@link
@@ -216,53 +218,53 @@ public class Key<T> {
 
   /** Gets a key for an injection type and an annotation strategy. */
   static <T> Key<T> get(Class<T> type, AnnotationStrategy annotationStrategy) {
-    return new Key<T>(type, annotationStrategy);
+    return Interning.intern(new Key<T>(type, annotationStrategy));
   }
 
   /** Gets a key for an injection type. */
   public static <T> Key<T> get(Class<T> type) {
-    return new Key<T>(type, NullAnnotationStrategy.INSTANCE);
+    return Interning.intern(new Key<T>(type, NullAnnotationStrategy.INSTANCE));
   }
 
   /** Gets a key for an injection type and an annotation type. */
   public static <T> Key<T> get(Class<T> type, Class<? extends Annotation> annotationType) {
-    return new Key<T>(type, strategyFor(annotationType));
+    return Interning.intern(new Key<T>(type, strategyFor(annotationType)));
   }
 
   /** Gets a key for an injection type and an annotation. */
   public static <T> Key<T> get(Class<T> type, Annotation annotation) {
-    return new Key<T>(type, strategyFor(annotation));
+    return Interning.intern(new Key<T>(type, strategyFor(annotation)));
   }
 
   /** Gets a key for an injection type. */
   public static Key<?> get(Type type) {
-    return new Key<>(type, NullAnnotationStrategy.INSTANCE);
+    return Interning.intern(new Key<>(type, NullAnnotationStrategy.INSTANCE));
   }
 
   /** Gets a key for an injection type and an annotation type. */
   public static Key<?> get(Type type, Class<? extends Annotation> annotationType) {
-    return new Key<>(type, strategyFor(annotationType));
+    return Interning.intern(new Key<>(type, strategyFor(annotationType)));
   }
 
   /** Gets a key for an injection type and an annotation. */
   public static Key<?> get(Type type, Annotation annotation) {
-    return new Key<>(type, strategyFor(annotation));
+    return Interning.intern(new Key<>(type, strategyFor(annotation)));
   }
 
   /** Gets a key for an injection type. */
   public static <T> Key<T> get(TypeLiteral<T> typeLiteral) {
-    return new Key<T>(typeLiteral, NullAnnotationStrategy.INSTANCE);
+    return Interning.intern(new Key<T>(typeLiteral, NullAnnotationStrategy.INSTANCE));
   }
 
   /** Gets a key for an injection type and an annotation type. */
   public static <T> Key<T> get(
       TypeLiteral<T> typeLiteral, Class<? extends Annotation> annotationType) {
-    return new Key<T>(typeLiteral, strategyFor(annotationType));
+    return Interning.intern(new Key<T>(typeLiteral, strategyFor(annotationType)));
   }
 
   /** Gets a key for an injection type and an annotation. */
   public static <T> Key<T> get(TypeLiteral<T> typeLiteral, Annotation annotation) {
-    return new Key<T>(typeLiteral, strategyFor(annotation));
+    return Interning.intern(new Key<T>(typeLiteral, strategyFor(annotation)));
   }
 
   /**
@@ -271,7 +273,7 @@ public class Key<T> {
    * @since 3.0
    */
   public <U> Key<U> ofType(Class<U> type) {
-    return new Key<>(type, annotationStrategy);
+    return Interning.intern(new Key<>(type, annotationStrategy));
   }
 
   /**
@@ -280,7 +282,7 @@ public class Key<T> {
    * @since 3.0
    */
   public Key<?> ofType(Type type) {
-    return new Key<>(type, annotationStrategy);
+    return Interning.intern(new Key<>(type, annotationStrategy));
   }
 
   /**
@@ -289,7 +291,7 @@ public class Key<T> {
    * @since 3.0
    */
   public <U> Key<U> ofType(TypeLiteral<U> type) {
-    return new Key<U>(type, annotationStrategy);
+    return Interning.intern(new Key<U>(type, annotationStrategy));
   }
 
   /**
@@ -301,7 +303,7 @@ public class Key<T> {
    * @since 5.0
    */
   public Key<T> withAnnotation(Class<? extends Annotation> annotationType) {
-    return new Key<T>(typeLiteral, strategyFor(annotationType));
+    return Interning.intern(new Key<T>(typeLiteral, strategyFor(annotationType)));
   }
 
   /**
@@ -313,7 +315,7 @@ public class Key<T> {
    * @since 5.0
    */
   public Key<T> withAnnotation(Annotation annotation) {
-    return new Key<T>(typeLiteral, strategyFor(annotation));
+    return Interning.intern(new Key<T>(typeLiteral, strategyFor(annotation)));
   }
 
   /**
@@ -331,7 +333,7 @@ public class Key<T> {
    * @since 3.0
    */
   public Key<T> withoutAttributes() {
-    return new Key<T>(typeLiteral, annotationStrategy.withoutAttributes());
+    return Interning.intern(new Key<T>(typeLiteral, annotationStrategy.withoutAttributes()));
   }
 
   interface AnnotationStrategy {
@@ -414,13 +416,25 @@ public class Key<T> {
     }
   }
 
-  // this class not test-covered
   static class AnnotationInstanceStrategy implements AnnotationStrategy {
 
+    /** Marks that the annotation can't be compared by its member values. */
+    private static final Object[] NO_MEMBER_VALUES = new Object[0];
+
     final Annotation annotation;
+    final Class<? extends Annotation> annotationType;
+    final int hashCode;
+
+    /**
+     * The annotation's member values, read when first compared to a different instance of the same
+     * annotation, or {@link #NO_MEMBER_VALUES}.
+     */
+    private volatile Object[] memberValues;
 
     AnnotationInstanceStrategy(Annotation annotation) {
       this.annotation = checkNotNull(annotation, "annotation");
+      this.annotationType = annotation.annotationType();
+      this.hashCode = annotation.hashCode();
     }
 
     @Override
@@ -440,22 +454,48 @@ public class Key<T> {
 
     @Override
     public Class<? extends Annotation> getAnnotationType() {
-      return annotation.annotationType();
+      return annotationType;
     }
 
     @Override
     public boolean equals(Object o) {
+      if (o == this) {
+        return true;
+      }
       if (!(o instanceof AnnotationInstanceStrategy)) {
         return false;
       }
 
       AnnotationInstanceStrategy other = (AnnotationInstanceStrategy) o;
-      return annotation.equals(other.annotation);
+      if (annotation == other.annotation) {
+        return true;
+      }
+      if (hashCode != other.hashCode || annotationType != other.annotationType) {
+        return false;
+      }
+      Object[] values = getMemberValues();
+      Object[] otherValues = other.getMemberValues();
+      if (values == NO_MEMBER_VALUES || otherValues == NO_MEMBER_VALUES) {
+        return annotation.equals(other.annotation);
+      }
+      return Arrays.deepEquals(values, otherValues);
+    }
+
+    private Object[] getMemberValues() {
+      Object[] values = memberValues;
+      if (values == null) {
+        values = Annotations.getProxyMemberValues(annotation);
+        if (values == null) {
+          values = NO_MEMBER_VALUES;
+        }
+        memberValues = values;
+      }
+      return values;
     }
 
     @Override
     public int hashCode() {
-      return annotation.hashCode();
+      return hashCode;
     }
 
     @Override
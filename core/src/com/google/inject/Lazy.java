@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+/**
+ * A provider that provisions its instance on the first call to {@link #get}, and returns the same
+ * instance from then on. Inject a {@code Lazy<T>} instead of a {@code T} to defer creating an
+ * expensive instance until it's needed, or never create it if it isn't. For example:
+ *
+ * <pre>
+ * class ReportGenerator {
+ *   private final Lazy&lt;PdfRenderer&gt; renderer;
+ *
+ *   &#64;Inject
+ *   ReportGenerator(Lazy&lt;PdfRenderer&gt; renderer) {
+ *     this.renderer = renderer;
+ *   }
+ *
+ *   byte[] render(Report report) {
+ *     return renderer.get().render(report);
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>Guice binds {@code Lazy<T>} just-in-time for every key {@code T} that it can inject, with the
+ * same binding annotation. Each injection of a {@code Lazy<T>} is a new {@code Lazy}, which
+ * provisions its instance with the binding of {@code T}, in its scope: a {@code Lazy} of an
+ * unscoped binding memoizes its own instance, while a {@code Lazy} of a singleton returns the
+ * singleton.
+ *
+ * <p>A {@code Lazy} may be shared between threads. Once the instance is provisioned, {@link #get}
+ * doesn't lock. Threads that call it while the instance is being provisioned wait for it, so that
+ * the instance is provisioned at most once. If provisioning fails, the exception is thrown and the
+ * next call to {@link #get} provisions again.
+ *
+ * <p>In the SPI, a {@code Lazy<T>} binding is a {@link com.google.inject.spi.ProviderBinding} of
+ * the key of {@code T}.
+ *
+ * @since 7.1
+ */
+public interface Lazy<T> extends Provider<T> {
+
+  /**
+   * Returns the instance, provisioning it if this is the first call.
+   *
+   * @throws OutOfScopeException when an attempt is made to access a scoped object while the scope
+   *     in question is not currently active
+   * @throws ProvisionException if the instance could not be provisioned
+   */
+  @Override
+  T get();
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+/**
+ * A handle that checks an instance of a pooled binding out of its pool, and back in when it's
+ * closed. Bind objects that are expensive to create and not thread-safe, such as parsers, message
+ * digests and compressors, in {@link Scopes#pooled}, and inject a {@code Pooled<T>} to use them.
+ * For example:
+ *
+ * <pre>
+ * bind(MessageDigest.class).toProvider(Sha256Provider.class).in(Scopes.pooled(16));
+ *
+ * class Checksums {
+ *   &#64;Inject Pooled&lt;MessageDigest&gt; digest;
+ *
+ *   byte[] checksum(byte[] data) {
+ *     try (Pooled&lt;MessageDigest&gt; digest = this.digest) {
+ *       return digest.get().digest(data);
+ *     }
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>Guice binds {@code Pooled<T>} just-in-time for every key {@code T} that is bound in a pooled
+ * scope, with the same binding annotation. Each injection of a {@code Pooled<T>} is a new handle.
+ * A handle may be closed and used again, which checks out another instance, but it should only be
+ * used by one thread at a time, like the instance it checks out. To tie an instance to a scope
+ * boundary, such as the end of a request or of a unit of work, close the handle when the boundary
+ * ends.
+ *
+ * <p>Injecting a {@code T} that is bound in a pooled scope, rather than a {@code Pooled<T>}, checks
+ * an instance out of the pool for good.
+ *
+ * <p>In the SPI, a {@code Pooled<T>} binding is a {@link com.google.inject.spi.ProviderBinding} of
+ * the key of {@code T}.
+ *
+ * @since 7.1
+ */
+public interface Pooled<T> extends Provider<T>, AutoCloseable {
+
+  /**
+   * Returns the instance that this handle checked out, checking out an idle instance of the pool
+   * or provisioning a new one if it has none.
+   *
+   * @throws ProvisionException if the instance could not be provisioned
+   */
+  @Override
+  T get();
+
+  /** Checks the instance back in to the pool, if this handle has one checked out. */
+  @Override
+  void close();
+}
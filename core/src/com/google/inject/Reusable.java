@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Apply this to implementation classes or provider methods whose instances may be reused for all
+ * injections of a binding, but don't need to be unique, such as immutable parsers and formatters.
+ * Guice caches the first instance it provisions, see {@link Scopes#REUSABLE}.
+ *
+ * <p>Unlike a {@link Singleton}, a reusable binding is never locked: threads that provision it
+ * concurrently before it's cached each create an instance, and all but one of them are discarded
+ * once they have been injected. Reusable bindings are never created eagerly.
+ *
+ * @since 7.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RUNTIME)
+@ScopeAnnotation
+public @interface Reusable {}
@@ -18,6 +18,9 @@ package com.google.inject;
 
 import com.google.inject.internal.BindingImpl;
 import com.google.inject.internal.BytecodeGen;
+import com.google.inject.internal.GraphScope;
+import com.google.inject.internal.PooledScope;
+import com.google.inject.internal.ReusableScope;
 import com.google.inject.internal.SingletonScope;
 import com.google.inject.spi.BindingScopingVisitor;
 import com.google.inject.spi.ExposedBinding;
@@ -36,6 +39,33 @@ public class Scopes {
   /** One instance per {@link Injector}. Also see {@code @}{@link Singleton}. */
   public static final Scope SINGLETON = new SingletonScope();
 
+  /**
+   * Caches an instance per binding, but may create more than one, so that provisioning never
+   * blocks. Also see {@code @}{@link Reusable}.
+   *
+   * @since 7.1
+   */
+  public static final Scope REUSABLE = new ReusableScope();
+
+  /**
+   * One instance per outermost provision, such as a call to {@link Injector#getInstance}, shared by
+   * all the objects it creates. Also see {@code @}{@link GraphScoped}.
+   *
+   * @since 7.1
+   */
+  public static final Scope GRAPH = new GraphScope();
+
+  /**
+   * Returns a scope that keeps up to {@code maxSize} idle instances of each binding in a pool, for
+   * objects that are expensive to create and not thread-safe. Inject a {@link Pooled} to check an
+   * instance out of the pool and back in.
+   *
+   * @since 7.1
+   */
+  public static Scope pooled(int maxSize) {
+    return new PooledScope(maxSize);
+  }
+
   /**
    * No scope; the same as not applying any scope at all. Each time the Injector obtains an instance
    * of an object with "no scope", it injects this instance then immediately forgets it. When the
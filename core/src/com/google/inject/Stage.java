@@ -38,5 +38,16 @@ public enum Stage {
   DEVELOPMENT,
 
   /** We want to catch errors as early as possible and take performance hits up front. */
-  PRODUCTION
+  PRODUCTION,
+
+  /**
+   * We want the fastest possible startup, at the expense of up front error checking. Only bindings
+   * reachable from injection requests, {@link Binder#getProvider provider lookups} and eager
+   * singletons are validated when the injector is created. Other constructor bindings are
+   * initialized, and their errors reported, when they are first used. Only singletons bound {@link
+   * com.google.inject.binder.ScopedBindingBuilder#asEagerSingleton eagerly} are loaded up front.
+   *
+   * @since 7.1
+   */
+  LAZY
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a module whose {@link Module#configure configure} method may run concurrently with
+ * the configuration of other modules. When such a module is passed directly to {@link
+ * Guice#createInjector} (or {@link com.google.inject.spi.Elements#getElements}), its elements may
+ * be recorded on another thread. The recorded elements, and their sources, are the same as if the
+ * modules had been configured one after the other, in the order they were given.
+ *
+ * <p>This is worthwhile for modules that do expensive work while configuring, like scanning the
+ * classpath or reading configuration. To be annotated, a module's {@code configure} method (and
+ * those of the modules it installs) must not depend on, or interfere with, state shared with other
+ * modules. If it installs a module instance that an earlier module installed too, the elements it
+ * recorded for that instance are dropped, as for any duplicate installation, and the thread-safe
+ * module isn't configured again. The {@code configure} method of the shared instance has still run
+ * once on each thread, but never on two threads at the same time.
+ *
+ * @since 7.1
+ */
+@Target(ElementType.TYPE)
+@Retention(RUNTIME)
+@Documented
+public @interface ThreadSafeModule {}
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.inject.internal.MoreTypes.canonicalize;
 
 import com.google.common.collect.ImmutableList;
+import com.google.inject.internal.Interning;
 import com.google.inject.internal.MoreTypes;
 import com.google.inject.util.Types;
 import java.lang.reflect.Constructor;
@@ -132,6 +133,9 @@ public class TypeLiteral<T> {
 
   @Override
   public final boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
     return o instanceof TypeLiteral<?> && MoreTypes.equals(type, ((TypeLiteral) o).type);
   }
 
@@ -142,12 +146,12 @@ public class TypeLiteral<T> {
 
   /** Gets type literal for the given {@code Type} instance. */
   public static TypeLiteral<?> get(Type type) {
-    return new TypeLiteral<Object>(type);
+    return Interning.intern(new TypeLiteral<Object>(type));
   }
 
   /** Gets type literal for the given {@code Class} instance. */
   public static <T> TypeLiteral<T> get(Class<T> type) {
-    return new TypeLiteral<T>(type);
+    return Interning.intern(new TypeLiteral<T>(type));
   }
 
   /** Returns an immutable list of the resolved types. */
@@ -160,7 +160,36 @@ abstract class AbstractBindingProcessor extends AbstractProcessor {
      * initially processed.
      */
     protected void scheduleInitialization(BindingImpl<?> binding) {
-      processedBindingData.addUninitializedBinding(() -> initializeBinding(binding));
+      if (binding.getInjector().options.stage == Stage.LAZY) {
+        // Initialized when first used, or when found to be reachable from a root.
+        if (binding instanceof ConstructorBindingImpl) {
+          ((ConstructorBindingImpl<?>) binding).deferInitialization();
+          return;
+        }
+        if (binding instanceof InternalProviderInstanceBindingImpl) {
+          ((InternalProviderInstanceBindingImpl<?>) binding)
+              .deferInitialization(
+                  processedBindingData.deferInitialization(
+                      binding, errors -> binding.getInjector().initializeBinding(binding, errors)));
+          return;
+        }
+      }
+      processedBindingData.addUninitializedBinding(binding, () -> initializeBinding(binding));
+    }
+
+    /**
+     * Schedule {@code listener}, the factory of {@code binding}, to be notified once all bindings
+     * have been processed. In {@link Stage#LAZY}, it's notified when the binding is first used, or
+     * when found to be reachable from a root.
+     */
+    protected <L extends CreationListener & DeferredInitializer.Deferrable>
+        void scheduleCreationListener(BindingImpl<?> binding, L listener) {
+      if (binding.getInjector().options.stage == Stage.LAZY) {
+        listener.deferInitialization(
+            processedBindingData.deferInitialization(binding, listener::notify));
+        return;
+      }
+      processedBindingData.addCreationListener(listener);
     }
 
     /**
@@ -168,7 +197,7 @@ abstract class AbstractBindingProcessor extends AbstractProcessor {
      * bindings.
      */
     protected void scheduleDelayedInitialization(BindingImpl<?> binding) {
-      processedBindingData.addDelayedUninitializedBinding(() -> initializeBinding(binding));
+      processedBindingData.addDelayedUninitializedBinding(binding, () -> initializeBinding(binding));
     }
 
     private void initializeBinding(BindingImpl<?> binding) {
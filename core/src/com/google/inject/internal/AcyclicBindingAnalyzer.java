@@ -0,0 +1,329 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.MembersInjector;
+import com.google.inject.Scopes;
+import com.google.inject.spi.ConvertedConstantBinding;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.ProviderBinding;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Proves, at injector creation time, that some constructors can never be re-entered while they are
+ * constructing. Such constructors don't need the circular dependency bookkeeping in {@link
+ * InternalContext}, see {@link ConstructorInjector#markAcyclic}.
+ *
+ * <p>The analysis builds a graph of the bindings reachable from the injectors being created, with
+ * one node per {@link ConstructorInjector} (which may be shared by several bindings) and one node
+ * per other binding, and computes its strongly connected components. A constructor is proven
+ * acyclic if its component is trivial and it can't reach an <em>opaque</em> node. Opaque nodes are
+ * bindings that run user code able to request arbitrary keys at provision time, e.g. user providers,
+ * {@code @Provides} methods, custom scopes, provision listeners or anything injecting the {@link
+ * Injector} itself. Any edge out of them is invisible to us, so they may close a cycle.
+ *
+ * <p>This is only useful when circular proxies are disabled, since otherwise the bookkeeping is also
+ * needed to hand out proxies.
+ */
+final class AcyclicBindingAnalyzer {
+
+  private static final Key<Injector> INJECTOR_KEY = Key.get(Injector.class);
+  private static final Key<Logger> LOGGER_KEY = Key.get(Logger.class);
+
+  private static final class Node {
+    /** The constructor injector for this node, or {@code null} if it isn't a constructor. */
+    final ConstructorInjector<?> constructorInjector;
+
+    final List<Node> edges = new ArrayList<>();
+    boolean opaque;
+    boolean owned;
+
+    // Tarjan's algorithm state
+    int index = -1;
+    int lowLink;
+    boolean onStack;
+    int nextEdge;
+    boolean reachesOpaque;
+
+    Node(ConstructorInjector<?> constructorInjector) {
+      this.constructorInjector = constructorInjector;
+    }
+  }
+
+  private final Set<InjectorImpl> injectors;
+  private final Map<Object, Node> nodes = new IdentityHashMap<>();
+  private final ArrayDeque<Binding<?>> pending = new ArrayDeque<>();
+  private int provenAcyclic;
+
+  private AcyclicBindingAnalyzer(Set<InjectorImpl> injectors) {
+    this.injectors = injectors;
+  }
+
+  /**
+   * Marks every constructor of {@code injectors} that can't take part in a cycle as acyclic.
+   * Returns the number of constructors that were marked.
+   */
+  static int markAcyclicConstructors(Collection<InjectorImpl> injectors) {
+    Set<InjectorImpl> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+    owned.addAll(injectors);
+    AcyclicBindingAnalyzer analyzer = new AcyclicBindingAnalyzer(owned);
+    for (InjectorImpl injector : injectors) {
+      for (Binding<?> binding : injector.getBindingData().getExplicitBindingsThisLevel().values()) {
+        analyzer.nodeFor(binding);
+      }
+      synchronized (injector.getJitBindingData().lock()) {
+        for (Binding<?> binding : injector.getJitBindingData().getJitBindings().values()) {
+          analyzer.nodeFor(binding);
+        }
+      }
+    }
+    analyzer.linkPending();
+    analyzer.findComponents();
+    return analyzer.provenAcyclic;
+  }
+
+  private Node nodeFor(Binding<?> binding) {
+    Object identity = identityOf(binding);
+    Node node = nodes.get(identity);
+    if (node == null) {
+      node =
+          new Node(
+              identity instanceof ConstructorInjector ? (ConstructorInjector<?>) identity : null);
+      nodes.put(identity, node);
+      pending.add(binding);
+    }
+    // A shared constructor injector is opaque if any of the bindings using it is, and may be marked
+    // if any of them belongs to the injectors being created.
+    if (isOpaque(binding)) {
+      node.opaque = true;
+    }
+    if (injectors.contains(((BindingImpl<?>) binding).getInjector())) {
+      node.owned = true;
+    }
+    return node;
+  }
+
+  private static Object identityOf(Binding<?> binding) {
+    if (binding instanceof ConstructorBindingImpl) {
+      ConstructorInjector<?> constructorInjector =
+          ((ConstructorBindingImpl<?>) binding).getConstructorInjector();
+      if (constructorInjector != null) {
+        return constructorInjector;
+      }
+    }
+    return binding;
+  }
+
+  /** Resolves the dependencies of every discovered binding, discovering new bindings on the way. */
+  private void linkPending() {
+    while (!pending.isEmpty()) {
+      Binding<?> binding = pending.poll();
+      Node node = nodes.get(identityOf(binding));
+      if (node.opaque) {
+        continue; // edges of opaque nodes don't matter
+      }
+      if (binding instanceof ExposedBindingImpl) {
+        InjectorImpl privateInjector =
+            (InjectorImpl) ((ExposedBindingImpl<?>) binding).getPrivateElements().getInjector();
+        addEdge(node, privateInjector, binding.getKey());
+      } else {
+        InjectorImpl injector = ((BindingImpl<?>) binding).getInjector();
+        for (Key<?> key : dependencyKeys(binding)) {
+          addEdge(node, injector, key);
+        }
+      }
+    }
+  }
+
+  private void addEdge(Node from, InjectorImpl injector, Key<?> key) {
+    Binding<?> target = injector == null ? null : findExistingBinding(injector, key);
+    if (target == null) {
+      // We can't see what this resolves to at runtime.
+      from.opaque = true;
+      return;
+    }
+    from.edges.add(nodeFor(target));
+  }
+
+  private static Binding<?> findExistingBinding(InjectorImpl injector, Key<?> key) {
+    Binding<?> binding = injector.getBindingData().getExplicitBinding(key);
+    if (binding != null) {
+      return binding;
+    }
+    synchronized (injector.getJitBindingData().lock()) {
+      for (InjectorImpl i = injector; i != null; i = i.parent) {
+        binding = i.getJitBindingData().getJitBinding(key);
+        if (binding != null) {
+          return binding;
+        }
+      }
+    }
+    return null;
+  }
+
+  /** Returns the keys that provisioning {@code binding} may request from its injector. */
+  private static List<Key<?>> dependencyKeys(Binding<?> binding) {
+    List<Key<?>> keys = new ArrayList<>();
+    if (binding instanceof ConstructorBindingImpl) {
+      for (Dependency<?> dependency :
+          ((ConstructorBindingImpl<?>) binding).getInternalDependencies()) {
+        keys.add(dependency.getKey());
+      }
+    } else if (binding instanceof LinkedBindingImpl) {
+      keys.add(((LinkedBindingImpl<?>) binding).getLinkedKey());
+    } else if (binding instanceof ProviderBinding) {
+      keys.add(((ProviderBinding<?>) binding).getProvidedKey());
+    } else if (binding instanceof InstanceBinding) {
+      for (Dependency<?> dependency :
+          Dependency.forInjectionPoints(((InstanceBinding<?>) binding).getInjectionPoints())) {
+        keys.add(dependency.getKey());
+      }
+    } else if (binding instanceof InternalProviderInstanceBindingImpl) {
+      for (Dependency<?> dependency :
+          ((InternalProviderInstanceBindingImpl<?>) binding).getDependencies()) {
+        keys.add(dependency.getKey());
+      }
+    }
+    return keys;
+  }
+
+  /** Returns true if provisioning {@code binding} may request keys we can't see. */
+  private static boolean isOpaque(Binding<?> binding) {
+    Key<?> key = binding.getKey();
+    if (key.equals(LOGGER_KEY)) {
+      return false;
+    }
+    if (key.equals(INJECTOR_KEY)
+        || key.getTypeLiteral().getRawType() == MembersInjector.class) {
+      return true;
+    }
+    Scoping scoping = ((BindingImpl<?>) binding).getScoping();
+    if (!scoping.isNoScope() && scoping.getScopeInstance() != Scopes.SINGLETON) {
+      return true; // custom scopes are user code
+    }
+    if (binding instanceof InternalProviderInstanceBindingImpl) {
+      // Multibinder and optional binder factories are ours, @Provides methods are user code.
+      return ((InternalProviderInstanceBindingImpl<?>) binding).getUserSuppliedProvider()
+          instanceof ProviderMethod;
+    }
+    if (binding instanceof ConstructorBindingImpl) {
+      ConstructorBindingImpl<?> constructorBinding = (ConstructorBindingImpl<?>) binding;
+      ConstructorInjector<?> constructorInjector = constructorBinding.getConstructorInjector();
+      return constructorInjector == null
+          || constructorBinding.hasProvisionListeners()
+          || constructorInjector.hasUserCallbacks();
+    }
+    return !(binding instanceof LinkedBindingImpl
+        || binding instanceof ProviderBinding
+        || binding instanceof InstanceBinding
+        || binding instanceof ConvertedConstantBinding
+        || binding instanceof ExposedBindingImpl
+        || binding instanceof InternalProviderInstanceBindingImpl);
+  }
+
+  /**
+   * Iterative version of Tarjan's strongly connected components algorithm. Components are
+   * completed in reverse topological order, so everything a component can reach has already been
+   * classified when it completes.
+   */
+  private void findComponents() {
+    int index = 0;
+    ArrayDeque<Node> stack = new ArrayDeque<>();
+    ArrayDeque<Node> callStack = new ArrayDeque<>();
+    for (Node root : nodes.values()) {
+      if (root.index != -1) {
+        continue;
+      }
+      root.index = root.lowLink = index++;
+      root.onStack = true;
+      stack.push(root);
+      callStack.push(root);
+      while (!callStack.isEmpty()) {
+        Node node = callStack.peek();
+        if (node.nextEdge < node.edges.size()) {
+          Node next = node.edges.get(node.nextEdge++);
+          if (next.index == -1) {
+            next.index = next.lowLink = index++;
+            next.onStack = true;
+            stack.push(next);
+            callStack.push(next);
+          } else if (next.onStack) {
+            node.lowLink = Math.min(node.lowLink, next.index);
+          }
+          continue;
+        }
+        callStack.pop();
+        if (!callStack.isEmpty()) {
+          Node caller = callStack.peek();
+          caller.lowLink = Math.min(caller.lowLink, node.lowLink);
+        }
+        if (node.lowLink == node.index) {
+          completeComponent(node, stack);
+        }
+      }
+    }
+  }
+
+  private void completeComponent(Node root, ArrayDeque<Node> stack) {
+    List<Node> component = new ArrayList<>();
+    Node member;
+    do {
+      member = stack.pop();
+      member.onStack = false;
+      component.add(member);
+    } while (member != root);
+
+    boolean reachesOpaque = false;
+    for (Node node : component) {
+      if (node.opaque) {
+        reachesOpaque = true;
+        break;
+      }
+      for (Node edge : node.edges) {
+        // Nodes still marked as being in this component haven't been classified yet, but they are
+        // covered by the loop above.
+        if (edge.reachesOpaque) {
+          reachesOpaque = true;
+          break;
+        }
+      }
+    }
+    for (Node node : component) {
+      node.reachesOpaque = reachesOpaque;
+    }
+
+    if (reachesOpaque || component.size() != 1 || root.edges.contains(root)) {
+      return;
+    }
+    if (root.constructorInjector != null && root.owned) {
+      root.constructorInjector.markAcyclic();
+      provenAcyclic++;
+    }
+  }
+}
@@ -123,6 +123,44 @@ public class Annotations {
     return result.buildOrThrow();
   }
 
+  /** The members of each annotation type, sorted by name. */
+  private static final ClassValue<Method[]> memberMethods =
+      new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(Class<?> annotationType) {
+          Method[] methods = annotationType.getDeclaredMethods();
+          Arrays.sort(methods, (a, b) -> a.getName().compareTo(b.getName()));
+          for (Method method : methods) {
+            // The annotation type may not be public
+            method.setAccessible(true);
+          }
+          return methods;
+        }
+      };
+
+  /**
+   * Returns the values of the members of {@code annotation} if it's implemented by a {@link Proxy},
+   * like the annotations returned by reflection, or null otherwise. The {@code equals} and {@code
+   * hashCode} methods of these proxies reflectively read every member on every call, so it's cheaper
+   * to compare the values directly: two such annotations of the same type are equal exactly when
+   * their member values are {@link Arrays#deepEquals deeply equal}.
+   */
+  public static Object[] getProxyMemberValues(Annotation annotation) {
+    if (!Proxy.isProxyClass(annotation.getClass())) {
+      return null;
+    }
+    try {
+      Method[] methods = memberMethods.get(annotation.annotationType());
+      Object[] values = new Object[methods.length];
+      for (int i = 0; i < methods.length; i++) {
+        values[i] = methods[i].invoke(annotation);
+      }
+      return values;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null; // let the annotation compare itself
+    }
+  }
+
   /** Implements {@link Annotation#equals}. */
   private static boolean annotationEquals(
       Class<? extends Annotation> type, Map<String, Object> members, Object other)
@@ -130,7 +168,7 @@ public class Annotations {
     if (!type.isInstance(other)) {
       return false;
     }
-    for (Method method : type.getDeclaredMethods()) {
+    for (Method method : memberMethods.get(type)) {
       String name = method.getName();
       if (!Arrays.deepEquals(
           new Object[] {method.invoke(other)}, new Object[] {members.get(name)})) {
@@ -144,7 +182,7 @@ public class Annotations {
   private static int annotationHashCode(
       Class<? extends Annotation> type, Map<String, Object> members) throws Exception {
     int result = 0;
-    for (Method method : type.getDeclaredMethods()) {
+    for (Method method : memberMethods.get(type)) {
       String name = method.getName();
       Object value = members.get(name);
       result += (127 * name.hashCode()) ^ (Arrays.deepHashCode(new Object[] {value}) - 31);
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Stage;
+import com.google.inject.internal.InjectorImpl.JitLimitation;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.ProviderBinding;
+import com.google.inject.util.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Implements {@link com.google.inject.Injector#getInstanceAsync}. Guice provisions an instance
+ * and its dependencies on a single thread, so instead of provisioning the dependencies of the
+ * instance concurrently, this creates the singletons that it transitively depends on
+ * concurrently, and then provisions the instance once they're all created. Singletons are the
+ * dependencies that are worth creating ahead of time: they're where the expensive work, such as
+ * fetching configuration, is usually done, and creating them doesn't depend on the thread or the
+ * scope of the caller.
+ *
+ * <p>Dependencies on providers are not followed, since the instances of a provider may never be
+ * requested.
+ */
+final class AsyncProvisioner {
+
+  private final Set<Binding<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final ArrayDeque<BindingImpl<?>> pending = new ArrayDeque<>();
+  private final List<BindingImpl<?>> singletons = new ArrayList<>();
+
+  private AsyncProvisioner() {}
+
+  static <T> CompletableFuture<T> provision(InjectorImpl injector, Key<T> key, Executor executor) {
+    Errors errors = new Errors(key);
+    BindingImpl<?> binding;
+    boolean completionStage = false;
+    try {
+      binding = getCompletionStageBinding(injector, key);
+      if (binding != null) {
+        completionStage = true;
+      } else {
+        binding = injector.getBindingOrThrow(key, errors, JitLimitation.NO_JIT);
+      }
+      errors.throwIfNewErrors(0);
+    } catch (ErrorsException e) {
+      return CompletableFuture.failedFuture(
+          new ConfigurationException(errors.merge(e.getErrors()).getMessages()));
+    }
+
+    AsyncProvisioner provisioner = new AsyncProvisioner();
+    provisioner.visited.add(binding);
+    provisioner.pending.add(binding);
+    List<BindingImpl<?>> singletons = provisioner.findSingletons();
+    // Start with the deepest singletons, which may be needed to create the others.
+    CompletableFuture<?>[] creations = new CompletableFuture<?>[singletons.size()];
+    for (int i = 0; i < creations.length; i++) {
+      Provider<?> provider = singletons.get(creations.length - 1 - i).getProvider();
+      // A singleton that fails is created again with the instance, which reports the failure
+      // along with the path to it.
+      creations[i] = CompletableFuture.runAsync(provider::get, executor).exceptionally(e -> null);
+    }
+
+    Provider<?> provider = binding.getProvider();
+    CompletableFuture<?> instance =
+        CompletableFuture.allOf(creations).thenApplyAsync(unused -> provider.get(), executor);
+    @SuppressWarnings("unchecked") // the binding is for T, or for CompletionStage<T>
+    CompletableFuture<T> result =
+        completionStage
+            ? instance.thenCompose(stage -> (CompletionStage<T>) stage)
+            : (CompletableFuture<T>) instance;
+    return result;
+  }
+
+  /**
+   * Returns the explicit binding of {@code CompletionStage<T>} with the annotation of {@code key},
+   * if {@code key} isn't bound itself, or null.
+   */
+  private static BindingImpl<?> getCompletionStageBinding(InjectorImpl injector, Key<?> key) {
+    if (injector.getExistingBinding(key) != null) {
+      return null;
+    }
+    Key<?> stageKey =
+        key.ofType(
+            Types.newParameterizedType(CompletionStage.class, key.getTypeLiteral().getType()));
+    return (BindingImpl<?>) injector.getExistingBinding(stageKey);
+  }
+
+  /** Returns the singletons that the pending bindings transitively depend on, in breadth order. */
+  private List<BindingImpl<?>> findSingletons() {
+    BindingImpl<?> binding;
+    while ((binding = pending.poll()) != null) {
+      if (binding instanceof ProviderBinding) {
+        continue;
+      }
+      if (binding instanceof ExposedBindingImpl) {
+        InjectorImpl privateInjector =
+            (InjectorImpl) ((ExposedBindingImpl<?>) binding).getPrivateElements().getInjector();
+        resolve(privateInjector, binding.getKey());
+      } else if (binding instanceof HasDependencies && binding.getInjector() != null) {
+        for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+          resolve(binding.getInjector(), dependency.getKey());
+        }
+      }
+    }
+    return singletons;
+  }
+
+  private void resolve(InjectorImpl injector, Key<?> key) {
+    BindingImpl<?> binding;
+    try {
+      binding =
+          injector.getBindingOrThrow(key, new Errors(), JitLimitation.NEW_OR_EXISTING_JIT);
+    } catch (ErrorsException e) {
+      return; // reported when the instance is provisioned
+    }
+    if (visited.add(binding)) {
+      pending.add(binding);
+      // Singletons are eager in production, so this is true of every singleton binding.
+      if (binding.getScoping().isEagerSingleton(Stage.PRODUCTION)) {
+        singletons.add(binding);
+      }
+    }
+  }
+}
@@ -148,12 +148,13 @@ final class BindingProcessor extends AbstractBindingProcessor {
             ProvisionListenerStackCallback<T> listener =
                 injector.provisionListenerStore.get((Binding<T>) binding);
             int circularFactoryId = injector.circularFactoryIdFactory.next();
-            InternalFactory<T> factory =
+            ProviderInternalFactory<T> factory =
                 (initializable.isPresent()
                     ? new InternalFactoryToInitializableAdapter<T>(
                         initializable.get(), source, listener, circularFactoryId)
                     : new ConstantProviderInternalFactory<T>(
                         provider, source, listener, circularFactoryId));
+            factory.setProvisionCounters(injector.provisionCounters.get(key));
 
             InternalFactory<? extends T> scopedFactory =
                 Scoping.scope(key, injector, factory, source, scoping);
@@ -176,7 +177,7 @@ final class BindingProcessor extends AbstractBindingProcessor {
                     providerKey,
                     source,
                     injector.provisionListenerStore.get((ProviderKeyBinding<T>) binding));
-            processedBindingData.addCreationListener(boundProviderFactory);
+            boundProviderFactory.setProvisionCounters(injector.provisionCounters.get(key));
             InternalFactory<? extends T> scopedFactory =
                 Scoping.scope(
                     key,
@@ -184,9 +185,11 @@ final class BindingProcessor extends AbstractBindingProcessor {
                     (InternalFactory<? extends T>) boundProviderFactory,
                     source,
                     scoping);
-            putBinding(
+            LinkedProviderBindingImpl<T> linkedProviderBinding =
                 new LinkedProviderBindingImpl<T>(
-                    injector, key, source, scopedFactory, scoping, providerKey));
+                    injector, key, source, scopedFactory, scoping, providerKey);
+            scheduleCreationListener(linkedProviderBinding, boundProviderFactory);
+            putBinding(linkedProviderBinding);
             return true;
           }
 
@@ -200,11 +203,12 @@ final class BindingProcessor extends AbstractBindingProcessor {
             }
 
             FactoryProxy<T> factory = new FactoryProxy<>(injector, key, linkedKey, source);
-            processedBindingData.addCreationListener(factory);
             InternalFactory<? extends T> scopedFactory =
                 Scoping.scope(key, injector, factory, source, scoping);
-            putBinding(
-                new LinkedBindingImpl<T>(injector, key, source, scopedFactory, scoping, linkedKey));
+            LinkedBindingImpl<T> linkedBinding =
+                new LinkedBindingImpl<T>(injector, key, source, scopedFactory, scoping, linkedKey);
+            scheduleCreationListener(linkedBinding, factory);
+            putBinding(linkedBinding);
             return true;
           }
 
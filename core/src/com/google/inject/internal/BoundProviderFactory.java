@@ -21,12 +21,14 @@ import com.google.inject.internal.InjectorImpl.JitLimitation;
 import com.google.inject.spi.Dependency;
 
 /** Delegates to a custom factory which is also bound in the injector. */
-final class BoundProviderFactory<T> extends ProviderInternalFactory<T> implements CreationListener {
+final class BoundProviderFactory<T> extends ProviderInternalFactory<T>
+    implements CreationListener, DeferredInitializer.Deferrable {
 
   private final ProvisionListenerStackCallback<T> provisionCallback;
   private final InjectorImpl injector;
   final Key<? extends jakarta.inject.Provider<? extends T>> providerKey;
   private InternalFactory<? extends jakarta.inject.Provider<? extends T>> providerFactory;
+  private DeferredInitializer deferredInitializer;
 
   BoundProviderFactory(
       InjectorImpl injector,
@@ -50,9 +52,18 @@ final class BoundProviderFactory<T> extends ProviderInternalFactory<T> implement
     }
   }
 
+  @Override
+  public void deferInitialization(DeferredInitializer initializer) {
+    this.deferredInitializer = initializer;
+  }
+
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    DeferredInitializer deferred = deferredInitializer;
+    if (deferred != null) {
+      deferred.initializeBeforeUse();
+    }
     try {
       // TODO: lukes - are we passing the right dependency here?
       jakarta.inject.Provider<? extends T> provider = providerFactory.get(context, dependency, true);
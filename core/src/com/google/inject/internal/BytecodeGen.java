@@ -26,6 +26,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.inject.internal.aop.ClassBuilding;
+import com.google.inject.internal.util.GuiceEvents;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationHandler;
@@ -175,7 +176,12 @@ public final class BytecodeGen {
       new ClassValue<Function<String, BiFunction<Object, Object[], Object>>>() {
         @Override
         protected Function<String, BiFunction<Object, Object[], Object>> computeValue(Class<?> hostClass) {
-          return buildFastClass(hostClass);
+          Object event = GuiceEvents.beginClassGeneration();
+          try {
+            return buildFastClass(hostClass);
+          } finally {
+            GuiceEvents.endClassGeneration(event, hostClass, "fast class");
+          }
         }
       };
 
@@ -153,9 +153,39 @@ final class ConstructorBindingImpl<T> extends BindingImpl<T>
   @Override
   @SuppressWarnings("unchecked") // the result type always agrees with the ConstructorInjector type
   public void initialize(InjectorImpl injector, Errors errors) throws ErrorsException {
+    // The constructor injector is set last since it marks the binding as ready, possibly to other
+    // threads if initialization was deferred.
+    factory.provisionCallback = injector.provisionListenerStore.get(this);
+    factory.provisionCounters = injector.provisionCounters.get(getKey());
     factory.constructorInjector =
         (ConstructorInjector<T>) injector.constructors.get(constructorInjectionPoint, errors);
-    factory.provisionCallback = injector.provisionListenerStore.get(this);
+  }
+
+  /**
+   * Defers the initialization of this binding until it is first used, or until {@link
+   * #initializeIfDeferred} is called. See {@link com.google.inject.Stage#LAZY}.
+   */
+  void deferInitialization() {
+    factory.deferredBinding = this;
+  }
+
+  /** True if this binding's initialization was deferred and hasn't happened yet. */
+  boolean isInitializationDeferred() {
+    return factory.constructorInjector == null && factory.deferredBinding != null;
+  }
+
+  /** Initializes this binding now if its initialization was deferred and hasn't happened yet. */
+  void initializeIfDeferred(Errors errors) throws ErrorsException {
+    ConstructorBindingImpl<T> deferredBinding = factory.deferredBinding;
+    if (factory.constructorInjector != null || deferredBinding == null) {
+      return;
+    }
+    InjectorImpl injector = deferredBinding.getInjector();
+    synchronized (injector.getJitBindingData().lock()) {
+      if (factory.constructorInjector == null) {
+        deferredBinding.initialize(injector, errors);
+      }
+    }
   }
 
   /** True if this binding has been initialized and is ready for use. */
@@ -163,6 +193,16 @@ final class ConstructorBindingImpl<T> extends BindingImpl<T>
     return factory.constructorInjector != null;
   }
 
+  /** Returns the constructor injector, or {@code null} if this binding isn't initialized yet. */
+  ConstructorInjector<T> getConstructorInjector() {
+    return factory.constructorInjector;
+  }
+
+  /** True if provisioning this binding notifies provision listeners. */
+  boolean hasProvisionListeners() {
+    return factory.provisionCallback != null;
+  }
+
   /** Returns an injection point that can be used to clean up the constructor store. */
   InjectionPoint getInternalConstructor() {
     if (factory.constructorInjector != null) {
@@ -194,26 +234,29 @@ final class ConstructorBindingImpl<T> extends BindingImpl<T>
 
   @Override
   public <V> V acceptTargetVisitor(BindingTargetVisitor<? super T, V> visitor) {
-    checkState(factory.constructorInjector != null, "not initialized");
+    checkState(factory.getOrInitialize() != null, "not initialized");
     return visitor.visit(this);
   }
 
   @Override
   public InjectionPoint getConstructor() {
-    checkState(factory.constructorInjector != null, "Binding is not ready");
-    return factory.constructorInjector.getConstructionProxy().getInjectionPoint();
+    ConstructorInjector<T> constructorInjector = factory.getOrInitialize();
+    checkState(constructorInjector != null, "Binding is not ready");
+    return constructorInjector.getConstructionProxy().getInjectionPoint();
   }
 
   @Override
   public Set<InjectionPoint> getInjectableMembers() {
-    checkState(factory.constructorInjector != null, "Binding is not ready");
-    return factory.constructorInjector.getInjectableMembers();
+    ConstructorInjector<T> constructorInjector = factory.getOrInitialize();
+    checkState(constructorInjector != null, "Binding is not ready");
+    return constructorInjector.getInjectableMembers();
   }
 
   @Override
   public Map<Method, List<MethodInterceptor>> getMethodInterceptors() {
-    checkState(factory.constructorInjector != null, "Binding is not ready");
-    return factory.constructorInjector.getConstructionProxy().getMethodInterceptors();
+    ConstructorInjector<T> constructorInjector = factory.getOrInitialize();
+    checkState(constructorInjector != null, "Binding is not ready");
+    return constructorInjector.getConstructionProxy().getMethodInterceptors();
   }
 
   @Override
@@ -279,8 +322,11 @@ final class ConstructorBindingImpl<T> extends BindingImpl<T>
   private static class Factory<T> implements InternalFactory<T> {
     private final boolean failIfNotLinked;
     private final Key<?> key;
-    private ConstructorInjector<T> constructorInjector;
+    private volatile ConstructorInjector<T> constructorInjector;
     private ProvisionListenerStackCallback<T> provisionCallback;
+    private ProvisionCounters provisionCounters;
+    /** The binding to initialize on first use, if its initialization was deferred. */
+    private ConstructorBindingImpl<T> deferredBinding;
 
     Factory(boolean failIfNotLinked, Key<?> key) {
       this.failIfNotLinked = failIfNotLinked;
@@ -293,7 +339,10 @@ final class ConstructorBindingImpl<T> extends BindingImpl<T>
         throws InternalProvisionException {
       ConstructorInjector<T> localInjector = constructorInjector;
       if (localInjector == null) {
-        throw new IllegalStateException("Constructor not ready");
+        localInjector = getOrInitialize();
+        if (localInjector == null) {
+          throw new IllegalStateException("Constructor not ready");
+        }
       }
 
       if (!linked && failIfNotLinked) {
@@ -302,7 +351,27 @@ final class ConstructorBindingImpl<T> extends BindingImpl<T>
 
       // This may not actually be safe because it could return a super type of T (if that's all the
       // client needs), but it should be OK in practice thanks to the wonders of erasure.
-      return (T) localInjector.construct(context, dependency, provisionCallback);
+      return (T) localInjector.construct(context, dependency, provisionCallback, provisionCounters);
+    }
+
+    /**
+     * Returns the constructor injector, initializing the binding first if its initialization was
+     * deferred. Returns {@code null} if the binding isn't ready yet.
+     *
+     * @throws ConfigurationException if initializing the binding failed
+     */
+    ConstructorInjector<T> getOrInitialize() {
+      ConstructorInjector<T> localInjector = constructorInjector;
+      if (localInjector != null || deferredBinding == null) {
+        return localInjector;
+      }
+      Errors errors = new Errors(deferredBinding.getSource());
+      try {
+        deferredBinding.initializeIfDeferred(errors);
+      } catch (ErrorsException e) {
+        throw new ConfigurationException(e.getErrors().getMessages());
+      }
+      return constructorInjector;
     }
   }
 }
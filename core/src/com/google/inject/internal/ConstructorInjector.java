@@ -18,6 +18,7 @@ package com.google.inject.internal;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.internal.ProvisionListenerStackCallback.ProvisionCallback;
+import com.google.inject.internal.util.GuiceEvents;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.InjectionPoint;
 import java.lang.reflect.InvocationTargetException;
@@ -38,6 +39,14 @@ final class ConstructorInjector<T> implements ProvisionCallback<T> {
   @Nullable private final MembersInjectorImpl<T> membersInjector;
   private final int circularFactoryId;
 
+  /**
+   * True if {@link AcyclicBindingAnalyzer} proved that this constructor can't be re-entered while it
+   * is constructing, in which case we skip the circular dependency bookkeeping entirely.
+   *
+   * <p>Only set during injector creation, before the injector is published to other threads.
+   */
+  private boolean acyclic;
+
   ConstructorInjector(
       Set<InjectionPoint> injectableMembers,
       ConstructionProxy<T> constructionProxy,
@@ -60,6 +69,27 @@ final class ConstructorInjector<T> implements ProvisionCallback<T> {
     return constructionProxy;
   }
 
+  /**
+   * Returns true if constructing an instance runs user code besides the constructor itself, like
+   * method interceptors, user members injectors or injection listeners.
+   */
+  boolean hasUserCallbacks() {
+    return !constructionProxy.getMethodInterceptors().isEmpty()
+        || (membersInjector != null && membersInjector.hasUserCallbacks());
+  }
+
+  /**
+   * Marks this constructor as never taking part in a cycle, see {@link AcyclicBindingAnalyzer}.
+   * This is only valid when circular proxies are disabled.
+   */
+  void markAcyclic() {
+    this.acyclic = true;
+  }
+
+  boolean isAcyclic() {
+    return acyclic;
+  }
+
   /**
    * Construct an instance. Returns {@code Object} instead of {@code T} because it may return a
    * proxy.
@@ -67,30 +97,81 @@ final class ConstructorInjector<T> implements ProvisionCallback<T> {
   Object construct(
       final InternalContext context,
       Dependency<?> dependency,
-      @Nullable ProvisionListenerStackCallback<T> provisionCallback)
+      @Nullable ProvisionListenerStackCallback<T> provisionCallback,
+      @Nullable ProvisionCounters provisionCounters)
       throws InternalProvisionException {
-    @SuppressWarnings("unchecked")
-    T result = (T) context.tryStartConstruction(circularFactoryId, dependency);
-    if (result != null) {
-      // We have a circular reference between bindings. Return a proxy.
-      return result;
-    }
+    Object event = GuiceEvents.beginProvision();
+    try {
+      if (acyclic && provisionCallback == null) {
+        // Nothing can loop back here, so there is nothing to track.
+        return provisionCounters == null
+            ? provisionAcyclic(context)
+            : countedProvision(context, /* acyclic= */ true, provisionCounters);
+      }
 
-    // Optimization: Don't go through the callback stack if we have no listeners.
-    if (provisionCallback == null) {
-      return provision(context);
-    } else {
-      // NOTE: `provision` always calls the callback, even if provision listeners
-      // throw exceptions.
-      return provisionCallback.provision(context, dependency, this);
+      @SuppressWarnings("unchecked")
+      T result = (T) context.tryStartConstruction(circularFactoryId, dependency);
+      if (result != null) {
+        // We have a circular reference between bindings. Return a proxy.
+        return result;
+      }
+
+      // Optimization: Don't go through the callback stack if we have no listeners.
+      if (provisionCallback == null) {
+        return provisionCounters == null
+            ? provision(context)
+            : countedProvision(context, /* acyclic= */ false, provisionCounters);
+      } else {
+        // NOTE: `provision` always calls the callback, even if provision listeners
+        // throw exceptions.
+        return provisionCallback.provision(context, dependency, this, provisionCounters);
+      }
+    } finally {
+      GuiceEvents.endProvision(event, constructionProxy.getInjectionPoint());
     }
   }
 
   // Implements ProvisionCallback<T>
   @Override
-  public final T call(InternalContext context, Dependency<?> dependency)
+  public final T call(
+      InternalContext context, Dependency<?> dependency, @Nullable Object provisionCounters)
       throws InternalProvisionException {
-    return provision(context);
+    return provisionCounters == null
+        ? provision(context)
+        : countedProvision(
+            context, /* acyclic= */ false, (ProvisionCounters) provisionCounters);
+  }
+
+  /** Provisions a new T, and records the provision in {@code counters}. */
+  private T countedProvision(InternalContext context, boolean acyclic, ProvisionCounters counters)
+      throws InternalProvisionException {
+    long start = System.nanoTime();
+    boolean succeeded = false;
+    try {
+      T t = acyclic ? provisionAcyclic(context) : provision(context);
+      succeeded = true;
+      return t;
+    } finally {
+      counters.record(start, succeeded);
+    }
+  }
+
+  /** Provisions a new T without touching the circular dependency state of the context. */
+  private T provisionAcyclic(InternalContext context) throws InternalProvisionException {
+    MembersInjectorImpl<T> localMembersInjector = membersInjector;
+    try {
+      Object[] parameters = SingleParameterInjector.getAll(context, parameterInjectors);
+      T t = constructionProxy.newInstance(parameters);
+      if (localMembersInjector != null) {
+        localMembersInjector.injectMembers(t, context, /* toolableOnly= */ false);
+        localMembersInjector.notifyListeners(t);
+      }
+      return t;
+    } catch (InvocationTargetException userException) {
+      Throwable cause = userException.getCause() != null ? userException.getCause() : userException;
+      throw InternalProvisionException.errorInjectingConstructor(cause)
+          .addSource(constructionProxy.getInjectionPoint());
+    }
   }
 
   /** Provisions a new T. */
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.InterceptorBinding;
+import java.util.Collection;
 
 /**
  * Constructor injectors by type.
@@ -66,6 +67,16 @@ final class ConstructorInjectorStore {
     return cache.remove(ip);
   }
 
+  /** Returns the constructor injectors created so far. */
+  Collection<ConstructorInjector<?>> getAll() {
+    return cache.asMap().values();
+  }
+
+  /** Purges all constructor injectors, when the injector is closed. */
+  void clear() {
+    cache.clear();
+  }
+
   private <T> ConstructorInjector<T> createConstructor(InjectionPoint injectionPoint, Errors errors)
       throws ErrorsException {
     int numErrorsBefore = errors.size();
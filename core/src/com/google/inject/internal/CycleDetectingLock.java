@@ -11,6 +11,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nullable;
 
 /**
  * Simplified version of {@link Lock} that is special due to how it handles deadlocks detection.
@@ -45,6 +46,10 @@ interface CycleDetectingLock<ID> {
   /** Unlocks previously locked lock. */
   void unlock();
 
+  /** Returns how long threads waited for this lock, or null if no thread waited for it yet. */
+  @Nullable
+  SingletonContention getContention();
+
   /**
    * Wraps locks so they would never cause a deadlock. On each {@link
    * CycleDetectingLock#lockOrDetectPotentialLocksCycle} we check for dependency cycles within locks
@@ -131,6 +136,9 @@ interface CycleDetectingLock<ID> {
        */
       private int lockReentranceCount = 0;
 
+      /** How long threads waited for this lock, created when a thread first waits. */
+      @Nullable private volatile SingletonContention lockContention;
+
       ReentrantCycleDetectingLock(
           CycleDetectingLockFactory<ID> lockFactory, ID userLockId, Lock lockImplementation) {
         this.lockFactory = lockFactory;
@@ -142,6 +150,8 @@ interface CycleDetectingLock<ID> {
       @Override
       public ListMultimap<Thread, ID> lockOrDetectPotentialLocksCycle() {
         final Thread currentThread = Thread.currentThread();
+        // Set if another thread owns the lock, so that only contended acquisitions read the clock.
+        SingletonContention contention = null;
         synchronized (CycleDetectingLockFactory.class) {
           checkState();
           // Only do work if this thread doesn't already own the lock.
@@ -163,11 +173,21 @@ interface CycleDetectingLock<ID> {
               // potential deadlock is found, we don't try to take this lock
               return locksInCycle;
             }
+            if (lockOwnerThread != null) {
+              // Created before waiting, so that the owner records how long its creation took
+              contention = getOrCreateContention();
+            }
           }
         }
 
         // this may be blocking, but we don't expect it to cause a deadlock
-        lockImplementation.lock();
+        if (contention == null) {
+          lockImplementation.lock();
+        } else {
+          long start = System.nanoTime();
+          lockImplementation.lock();
+          contention.recordWait(System.nanoTime() - start);
+        }
 
         synchronized (CycleDetectingLockFactory.class) {
           // current thread is no longer waiting on this lock
@@ -184,6 +204,20 @@ interface CycleDetectingLock<ID> {
         return ImmutableListMultimap.of();
       }
 
+      @Override
+      @Nullable
+      public SingletonContention getContention() {
+        return lockContention;
+      }
+
+      /** Guarded by {@code CycleDetectingLockFactory.class}. */
+      private SingletonContention getOrCreateContention() {
+        if (lockContention == null) {
+          lockContention = new SingletonContention();
+        }
+        return lockContention;
+      }
+
       @Override
       public void unlock() {
         final Thread currentThread = Thread.currentThread();
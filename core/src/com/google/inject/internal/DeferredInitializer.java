@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.ConfigurationException;
+
+/**
+ * The initialization of a binding that {@link com.google.inject.Stage#LAZY} defers until the
+ * binding is first used, or found to be reachable from a root of the injector being created. The
+ * initialization runs under the JIT binding lock of the injector, and is retried on the next use if
+ * it fails.
+ */
+final class DeferredInitializer {
+
+  /** Initializes a binding, adding any errors to {@code errors}. */
+  interface Initialization {
+    void initialize(Errors errors) throws ErrorsException;
+  }
+
+  /** A factory whose initialization can be deferred. */
+  interface Deferrable {
+    /** Makes the factory run {@code initializer} before it's first used. */
+    void deferInitialization(DeferredInitializer initializer);
+  }
+
+  private final InjectorImpl injector;
+  private final Object source;
+  private final Initialization initialization;
+  private volatile boolean initialized;
+
+  DeferredInitializer(InjectorImpl injector, Object source, Initialization initialization) {
+    this.injector = injector;
+    this.source = source;
+    this.initialization = initialization;
+  }
+
+  /** Initializes the binding, unless it's initialized already. */
+  void initialize(Errors errors) throws ErrorsException {
+    if (initialized) {
+      return;
+    }
+    synchronized (injector.getJitBindingData().lock()) {
+      if (!initialized) {
+        int numErrorsBefore = errors.size();
+        initialization.initialize(errors);
+        errors.throwIfNewErrors(numErrorsBefore);
+        initialized = true;
+      }
+    }
+  }
+
+  /**
+   * Initializes the binding before it's used, unless it's initialized already.
+   *
+   * @throws ConfigurationException if initializing the binding failed
+   */
+  void initializeBeforeUse() {
+    if (initialized) {
+      return;
+    }
+    try {
+      initialize(new Errors(source));
+    } catch (ErrorsException e) {
+      throw new ConfigurationException(e.getErrors().getMessages());
+    }
+  }
+}
@@ -33,7 +33,9 @@ public enum ErrorId {
   INJECT_INNER_CLASS,
   INJECT_LOCAL_CLASS,
   INJECT_METHOD_WITH_TYPE_PARAMETER,
+  INJECT_RAW_LAZY,
   INJECT_RAW_MEMBERS_INJECTOR,
+  INJECT_RAW_POOLED,
   INJECT_RAW_PROVIDER,
   INJECT_RAW_TYPE_LITERAL,
   JIT_BINDING_ALREADY_SET,
@@ -47,6 +49,7 @@ public enum ErrorId {
   MISSING_RUNTIME_RETENTION,
   MISSING_SCOPE_ANNOTATION,
   NOT_A_SUBTYPE,
+  NOT_POOLED,
   NULL_ELEMENT_IN_SET,
   NULL_INJECTED_INTO_NON_NULLABLE,
   NULL_VALUE_IN_MAP,
@@ -566,6 +566,23 @@ public final class Errors implements Serializable {
         ErrorId.INJECT_RAW_PROVIDER, "Cannot inject a Provider that has no type parameter");
   }
 
+  public Errors cannotInjectRawLazy() {
+    return addMessage(ErrorId.INJECT_RAW_LAZY, "Cannot inject a Lazy that has no type parameter");
+  }
+
+  public Errors cannotInjectRawPooled() {
+    return addMessage(
+        ErrorId.INJECT_RAW_POOLED, "Cannot inject a Pooled that has no type parameter");
+  }
+
+  public Errors notPooled(Key<?> key) {
+    return addMessage(
+        ErrorId.NOT_POOLED,
+        "Cannot inject a Pooled of %s, which is not bound in a pooled scope. Bind it with"
+            + " in(Scopes.pooled(maxSize)).",
+        key);
+  }
+
   public Errors cannotInjectRawMembersInjector() {
     return addMessage(
         ErrorId.INJECT_RAW_MEMBERS_INJECTOR,
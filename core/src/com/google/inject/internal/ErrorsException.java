@@ -30,6 +30,9 @@ public class ErrorsException extends Exception {
   private final Errors errors;
 
   public ErrorsException(Errors errors) {
+    // These are thrown and caught to signal a missing binding, and their stack traces are never
+    // shown, so don't pay to fill them in.
+    super(null, null, false, false);
     this.errors = errors;
   }
 
@@ -25,7 +25,8 @@ import com.google.inject.spi.Dependency;
  * A placeholder which enables us to swap in the real factory once the injector is created. Used for
  * a linked binding, so that getting the linked binding returns the link's factory.
  */
-final class FactoryProxy<T> implements InternalFactory<T>, CreationListener {
+final class FactoryProxy<T>
+    implements InternalFactory<T>, CreationListener, DeferredInitializer.Deferrable {
 
   private final InjectorImpl injector;
   private final Key<T> key;
@@ -33,6 +34,7 @@ final class FactoryProxy<T> implements InternalFactory<T>, CreationListener {
   private final Object source;
 
   private InternalFactory<? extends T> targetFactory;
+  private DeferredInitializer deferredInitializer;
 
   FactoryProxy(InjectorImpl injector, Key<T> key, Key<? extends T> targetKey, Object source) {
     this.injector = injector;
@@ -52,9 +54,18 @@ final class FactoryProxy<T> implements InternalFactory<T>, CreationListener {
     }
   }
 
+  @Override
+  public void deferInitialization(DeferredInitializer initializer) {
+    this.deferredInitializer = initializer;
+  }
+
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    DeferredInitializer deferred = deferredInitializer;
+    if (deferred != null) {
+      deferred.initializeBeforeUse();
+    }
     try {
       return targetFactory.get(context, dependency, /* linked= */ true);
     } catch (InternalProvisionException ipe) {
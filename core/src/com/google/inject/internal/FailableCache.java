@@ -73,6 +73,10 @@ public abstract class FailableCache<K, V> {
     return delegate.asMap().remove(key) != null;
   }
 
+  void clear() {
+    delegate.invalidateAll();
+  }
+
   boolean isLoading(K key) {
     return loadingSet.contains(key);
   }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Binding;
+import com.google.inject.Key;
+import java.util.Map;
+
+/**
+ * An immutable hash table of bindings by key, built when an injector is {@link
+ * InternalFlags#isFrozenBindingsEnabled frozen}.
+ *
+ * <p>The keys, their hash codes and the bindings are stored in parallel arrays, with open
+ * addressing and linear probing. The table is at most half full, so misses are found quickly, and a
+ * probe only calls {@link Key#equals} when the hash codes match. Since the table never changes, it
+ * can be read without holding a lock.
+ */
+final class FrozenBindingTable {
+
+  private final Key<?>[] keys;
+  private final int[] hashes;
+  private final BindingImpl<?>[] bindings;
+  private final int mask;
+
+  FrozenBindingTable(Map<Key<?>, ? extends Binding<?>> bindings) {
+    int capacity = Integer.highestOneBit(Math.max(bindings.size(), 1) * 2 - 1) << 1;
+    this.keys = new Key<?>[capacity];
+    this.hashes = new int[capacity];
+    this.bindings = new BindingImpl<?>[capacity];
+    this.mask = capacity - 1;
+    for (Map.Entry<Key<?>, ? extends Binding<?>> entry : bindings.entrySet()) {
+      Key<?> key = entry.getKey();
+      int hash = key.hashCode();
+      int index = spread(hash) & mask;
+      while (keys[index] != null) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      hashes[index] = hash;
+      this.bindings[index] = (BindingImpl<?>) entry.getValue();
+    }
+  }
+
+  /** Returns the binding for {@code key}, or null if there's none in the table. */
+  @SuppressWarnings("unchecked") // the bindings were stored with their keys
+  <T> BindingImpl<T> get(Key<T> key) {
+    int hash = key.hashCode();
+    int index = spread(hash) & mask;
+    Key<?> candidate;
+    while ((candidate = keys[index]) != null) {
+      if (hashes[index] == hash && (candidate == key || candidate.equals(key))) {
+        return (BindingImpl<T>) bindings[index];
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  /** Copies the bindings in the table to {@code map}. */
+  void copyTo(Map<Key<?>, BindingImpl<?>> map) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        map.put(keys[i], bindings[i]);
+      }
+    }
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
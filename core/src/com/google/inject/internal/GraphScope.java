@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+
+/**
+ * Shares an instance per binding within one object graph: from the outermost {@link
+ * InjectorImpl#enterContext} to the matching {@link InternalContext#close}. The instances are
+ * stored in the {@link InternalContext}, in an array indexed by a slot that each scoped binding
+ * gets from its injector tree, so a lookup is an array access rather than a map lookup. Slots are
+ * reused once the injector of their binding is closed, so the providers of a closed injector's
+ * bindings refuse to touch them.
+ */
+public final class GraphScope implements Scope {
+
+  /** A sentinel value representing null. */
+  private static final Object NULL = new Object();
+
+  @Override
+  public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+    if (!(unscoped instanceof ProviderToInternalFactoryAdapter)) {
+      // Not provisioned by an injector, so there is no graph to share the instance with.
+      return unscoped;
+    }
+    InjectorImpl injector = ((ProviderToInternalFactoryAdapter<T>) unscoped).getInjector();
+    int slot = injector.allocateGraphScopeSlot();
+    return new GraphScopedProvider<T>(injector, slot, unscoped);
+  }
+
+  @Override
+  public String toString() {
+    return "Scopes.GRAPH";
+  }
+
+  private static final class GraphScopedProvider<T> implements Provider<T> {
+    private final InjectorImpl injector;
+    private final int slot;
+    private final Provider<T> unscoped;
+
+    GraphScopedProvider(InjectorImpl injector, int slot, Provider<T> unscoped) {
+      this.injector = injector;
+      this.slot = slot;
+      this.unscoped = unscoped;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // the instance was provided by the Provider<T>
+    public T get() {
+      // The slot may belong to a binding of another injector by now.
+      checkState(!injector.isClosed(), "The injector was closed.");
+      // Entering the context again is cheap when this is called from within a provision, and
+      // keeps the graph open while the instance is created when it isn't.
+      InternalContext context = injector.enterContext();
+      try {
+        Object cached = context.getGraphInstance(slot);
+        if (cached != null) {
+          return cached == NULL ? null : (T) cached;
+        }
+        T provided = unscoped.get();
+        if (!Scopes.isCircularProxy(provided)) {
+          context.putGraphInstance(slot, provided == null ? NULL : provided);
+        }
+        return provided;
+      } finally {
+        context.close();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s[%s]", unscoped, Scopes.GRAPH);
+    }
+  }
+}
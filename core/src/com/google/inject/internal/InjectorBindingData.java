@@ -60,6 +60,10 @@ class InjectorBindingData {
   private final Map<Key<?>, Binding<?>> explicitBindingsMutable = Maps.newLinkedHashMap();
   private final Map<Key<?>, Binding<?>> explicitBindings =
       Collections.unmodifiableMap(explicitBindingsMutable);
+  /** The explicit bindings, once the injector is {@link #freeze frozen}. */
+  private volatile FrozenBindingTable frozenExplicitBindings;
+  /** Whether {@link #frozenExplicitBindings} includes the explicit bindings of the ancestors. */
+  private boolean frozenIncludesAncestors;
   private final Map<Class<? extends Annotation>, ScopeBinding> scopes = Maps.newHashMap();
   private final Set<ProviderLookup<?>> providerLookups = Sets.newLinkedHashSet();
   private final Set<StaticInjectionRequest> staticInjectionRequests = Sets.newLinkedHashSet();
@@ -84,8 +88,9 @@ class InjectorBindingData {
 
   @SuppressWarnings("unchecked") // we only put in BindingImpls that match their key types
   public <T> BindingImpl<T> getExplicitBinding(Key<T> key) {
-    Binding<?> binding = explicitBindings.get(key);
-    if (binding == null && parent.isPresent()) {
+    FrozenBindingTable frozen = frozenExplicitBindings;
+    Binding<?> binding = frozen != null ? frozen.get(key) : explicitBindings.get(key);
+    if (binding == null && parent.isPresent() && !(frozen != null && frozenIncludesAncestors)) {
       return parent.get().getExplicitBinding(key);
     }
     return (BindingImpl<T>) binding;
@@ -99,6 +104,31 @@ class InjectorBindingData {
     explicitBindingsMutable.put(key, binding);
   }
 
+  /**
+   * Copies the explicit bindings into a {@link FrozenBindingTable} for faster lookups. No bindings
+   * may be added afterwards, here or in the ancestors.
+   *
+   * @param includeAncestors whether to also copy the bindings of the ancestors, so that lookups
+   *     don't walk up the hierarchy
+   */
+  void freeze(boolean includeAncestors) {
+    Map<Key<?>, Binding<?>> bindings = explicitBindingsMutable;
+    if (includeAncestors && parent.isPresent()) {
+      bindings = Maps.newHashMap();
+      addVisibleExplicitBindings(bindings);
+    }
+    frozenIncludesAncestors = includeAncestors;
+    frozenExplicitBindings = new FrozenBindingTable(bindings);
+  }
+
+  private void addVisibleExplicitBindings(Map<Key<?>, Binding<?>> bindings) {
+    if (parent.isPresent()) {
+      parent.get().addVisibleExplicitBindings(bindings);
+    }
+    // Bindings at this level, like the binding to the Injector, hide those of the ancestors
+    bindings.putAll(explicitBindingsMutable);
+  }
+
   public void putProviderLookup(ProviderLookup<?> lookup) {
     providerLookups.add(lookup);
   }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Comparator.comparingLong;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.internal.util.ContinuousStopwatch;
+import com.google.inject.spi.InjectorCreationReport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Collects the timings of creating an injector for its {@link InjectorCreationReport}. Binding
+ * initializations and eager singletons are only kept if they're among the {@value #SLOWEST_COUNT}
+ * slowest, since an injector may have many thousands of them.
+ */
+public final class InjectorCreationRecorder {
+
+  static final int SLOWEST_COUNT = 20;
+
+  private final long startNanos = System.nanoTime();
+  final Map<Class<? extends Module>, Long> moduleConfigureNanos = Maps.newLinkedHashMap();
+  private final Slowest slowestBindingInitializations = new Slowest();
+  private final Slowest slowestEagerSingletons = new Slowest();
+
+  InjectorCreationRecorder() {}
+
+  void recordBindingInitialization(Key<?> key, long nanos) {
+    slowestBindingInitializations.record(key, nanos);
+  }
+
+  void recordEagerSingleton(Key<?> key, long nanos) {
+    slowestEagerSingletons.record(key, nanos);
+  }
+
+  /** Returns the report of the injector, whose phases were timed by {@code stopwatch}. */
+  InjectorCreationReport finish(ContinuousStopwatch stopwatch) {
+    return new InjectorCreationReport(
+        GuiceInternal.GUICE_INTERNAL,
+        Duration.ofNanos(System.nanoTime() - startNanos),
+        toDurations(stopwatch.getPhaseNanos()),
+        toDurations(moduleConfigureNanos),
+        slowestBindingInitializations.toDurations(),
+        slowestEagerSingletons.toDurations());
+  }
+
+  /** Returns the report of creating {@code injector}. */
+  public static InjectorCreationReport getReport(Injector injector) {
+    if (injector instanceof InternalInjectorCreator.ToolStageInjector) {
+      injector = ((InternalInjectorCreator.ToolStageInjector) injector).getDelegate();
+    }
+    checkArgument(injector instanceof InjectorImpl, "Not created by Guice: %s", injector);
+    InjectorCreationReport report = ((InjectorImpl) injector).creationReport;
+    checkState(report != null, "The injector is still being created: %s", injector);
+    return report;
+  }
+
+  private static <K> ImmutableMap<K, Duration> toDurations(Map<K, Long> nanos) {
+    ImmutableMap.Builder<K, Duration> durations =
+        ImmutableMap.builderWithExpectedSize(nanos.size());
+    for (Map.Entry<K, Long> entry : nanos.entrySet()) {
+      durations.put(entry.getKey(), Duration.ofNanos(entry.getValue()));
+    }
+    return durations.build();
+  }
+
+  /** The slowest timings, evicting the fastest one once there are {@link #SLOWEST_COUNT}. */
+  private static final class Slowest {
+    private final PriorityQueue<Timing> timings =
+        new PriorityQueue<>(comparingLong((Timing timing) -> timing.nanos));
+
+    void record(Key<?> key, long nanos) {
+      if (timings.size() == SLOWEST_COUNT) {
+        if (nanos <= timings.peek().nanos) {
+          return;
+        }
+        timings.poll();
+      }
+      timings.add(new Timing(key, nanos));
+    }
+
+    /**
+     * Returns the timings by key, slowest first. A key may be timed in several private
+     * environments, in which case its slowest timing is kept.
+     */
+    ImmutableMap<Key<?>, Duration> toDurations() {
+      List<Timing> sorted = new ArrayList<>(timings);
+      sorted.sort(comparingLong((Timing timing) -> timing.nanos).reversed());
+      Map<Key<?>, Long> nanos = new LinkedHashMap<>();
+      for (Timing timing : sorted) {
+        nanos.putIfAbsent(timing.key, timing.nanos);
+      }
+      return InjectorCreationRecorder.toDurations(nanos);
+    }
+  }
+
+  private static final class Timing {
+    final Key<?> key;
+    final long nanos;
+
+    Timing(Key<?> key, long nanos) {
+      this.key = key;
+      this.nanos = nanos;
+    }
+  }
+}
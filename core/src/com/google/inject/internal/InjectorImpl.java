@@ -17,6 +17,7 @@
 package com.google.inject.internal;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.inject.internal.Annotations.findScopeAnnotation;
 
 import com.google.common.base.MoreObjects;
@@ -32,14 +33,18 @@ import com.google.inject.Binding;
 import com.google.inject.ConfigurationException;
 import com.google.inject.ImplementedBy;
 import com.google.inject.Injector;
+import com.google.inject.Instances;
 import com.google.inject.Key;
+import com.google.inject.Lazy;
 import com.google.inject.MembersInjector;
 import com.google.inject.Module;
+import com.google.inject.Pooled;
 import com.google.inject.ProvidedBy;
 import com.google.inject.Provider;
 import com.google.inject.Scope;
 import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
+import com.google.inject.internal.util.GuiceEvents;
 import com.google.inject.internal.util.SourceProvider;
 import com.google.inject.spi.BindingTargetVisitor;
 import com.google.inject.spi.ConvertedConstantBinding;
@@ -47,6 +52,7 @@ import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectorCreationReport;
 import com.google.inject.spi.InstanceBinding;
 import com.google.inject.spi.ProviderBinding;
 import com.google.inject.spi.TypeConverterBinding;
@@ -56,12 +62,17 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Default {@link Injector} implementation.
@@ -120,6 +131,22 @@ final class InjectorImpl implements Injector, Lookups {
   final InjectorOptions options;
   final InternalContext.CircularFactoryIdFactory circularFactoryIdFactory;
 
+  /**
+   * The slots in use by {@link GraphScope graph scoped} bindings. Injectors that share their {@link
+   * #localContext}, and so their graph scoped instances, share their slots. Guarded by {@link
+   * InjectorJitBindingData#lock}, which is also shared.
+   */
+  final BitSet graphScopeSlots;
+
+  /**
+   * The slots of {@link #graphScopeSlots} allocated for the bindings of this injector, which are
+   * freed when it's {@link #close closed}. Guarded by {@link InjectorJitBindingData#lock}.
+   */
+  private BitSet ownGraphScopeSlots;
+
+  /** Whether this injector was {@link #close closed}. */
+  private volatile boolean closed;
+
   Lookups lookups = new DeferredLookups(this);
 
   /** The set of types passed to {@link #getMembersInjector} and {@link #injectMembers}. */
@@ -138,12 +165,14 @@ final class InjectorImpl implements Injector, Lookups {
     if (parent != null) {
       localContext = parent.localContext;
       circularFactoryIdFactory = parent.circularFactoryIdFactory;
+      graphScopeSlots = parent.graphScopeSlots;
     } else {
       // No ThreadLocal.initialValue(), as that would cause classloader leaks. See
       // https://github.com/google/guice/issues/288#issuecomment-48216933,
       // https://github.com/google/guice/issues/288#issuecomment-48216944
       localContext = new ThreadLocal<>();
       circularFactoryIdFactory = new InternalContext.CircularFactoryIdFactory();
+      graphScopeSlots = new BitSet();
     }
   }
 
@@ -159,6 +188,7 @@ final class InjectorImpl implements Injector, Lookups {
   /** Returns the binding for {@code key} */
   @Override
   public <T> BindingImpl<T> getBinding(Key<T> key) {
+    checkNotClosed();
     Errors errors = new Errors(checkNotNull(key, "key"));
     try {
       var result = getBindingOrThrow(key, errors, JitLimitation.EXISTING_JIT);
@@ -174,11 +204,16 @@ final class InjectorImpl implements Injector, Lookups {
 
   @Override
   public <T> BindingImpl<T> getExistingBinding(Key<T> key) {
+    checkNotClosed();
     // Check explicit bindings, i.e. bindings created by modules.
     var explicitBinding = bindingData.getExplicitBinding(checkNotNull(key, "key"));
     if (explicitBinding != null) {
       return explicitBinding;
     }
+    var frozenJitBinding = getFrozenJitBinding(key);
+    if (frozenJitBinding != null) {
+      return frozenJitBinding;
+    }
     synchronized (jitBindingData.lock()) {
       // See if any jit bindings have been created for this key.
       for (InjectorImpl injector = this; injector != null; injector = injector.parent) {
@@ -205,6 +240,22 @@ final class InjectorImpl implements Injector, Lookups {
       }
     }
 
+    // Likewise for a handle type, like Lazy, if the provided binding can have such handles.
+    HandleType handleType = HandleType.of(key);
+    if (handleType != null) {
+      BindingImpl<?> providedBinding;
+      try {
+        @SuppressWarnings("unchecked") // safe because handle types are Provider<?> types
+        var providedKey = (Key<?>) handleType.getProvidedKey((Key) key, new Errors());
+        providedBinding = getExistingBinding(providedKey);
+      } catch (ErrorsException e) {
+        throw new ConfigurationException(e.getErrors().getMessages());
+      }
+      if (providedBinding != null && handleType.canHandle(providedBinding)) {
+        return getBinding(key);
+      }
+    }
+
     // No existing binding exists.
     return null;
   }
@@ -239,6 +290,7 @@ final class InjectorImpl implements Injector, Lookups {
 
   @Override
   public Injector createChildInjector(Iterable<? extends Module> modules) {
+    checkNotClosed();
     return new InternalInjectorCreator().parentInjector(this).addModules(modules).build();
   }
 
@@ -247,6 +299,51 @@ final class InjectorImpl implements Injector, Lookups {
     return createChildInjector(ImmutableList.copyOf(modules));
   }
 
+  @Override
+  public void close() {
+    closed = true;
+    synchronized (jitBindingData.lock()) {
+      jitBindingData.close(bindingData);
+      if (ownGraphScopeSlots != null) {
+        graphScopeSlots.andNot(ownGraphScopeSlots);
+        ownGraphScopeSlots = null;
+      }
+    }
+    membersInjectorStore.clear();
+    constructors.clear();
+    provisionListenerStore.clear();
+    provisionCounters.clear();
+    userRequestedMembersInjectorTypes.clear();
+  }
+
+  /** Returns whether this injector was {@link #close closed}. */
+  boolean isClosed() {
+    return closed;
+  }
+
+  /** Throws if this injector or one of its ancestors was {@link #close closed}. */
+  void checkNotClosed() {
+    for (InjectorImpl injector = this; injector != null; injector = injector.parent) {
+      checkState(!injector.closed, "The injector was closed.");
+    }
+  }
+
+  /**
+   * Returns the lowest free slot of {@link #graphScopeSlots}, for a {@link GraphScope graph scoped}
+   * binding of this injector.
+   */
+  int allocateGraphScopeSlot() {
+    synchronized (jitBindingData.lock()) {
+      int slot = graphScopeSlots.nextClearBit(0);
+      graphScopeSlots.set(slot);
+      if (ownGraphScopeSlots == null) {
+        ownGraphScopeSlots = new BitSet();
+      }
+      ownGraphScopeSlots.set(slot);
+      return slot;
+    }
+  }
+
   InjectorBindingData getBindingData() {
     return bindingData;
   }
@@ -263,7 +360,16 @@ final class InjectorImpl implements Injector, Lookups {
   private <T> BindingImpl<T> getJustInTimeBinding(Key<T> key, Errors errors, JitLimitation jitType)
       throws ErrorsException {
 
-    boolean jitOverride = isProvider(key) || isTypeLiteral(key) || isMembersInjector(key);
+    boolean jitOverride =
+        isProvider(key)
+            || HandleType.of(key) != null
+            || isTypeLiteral(key)
+            || isMembersInjector(key);
+    // JIT bindings created before the injectors were frozen can be found without the lock
+    var frozenBinding = getFrozenJitBinding(key);
+    if (frozenBinding != null) {
+      return checkJitAllowed(frozenBinding, key, errors, jitType, jitOverride);
+    }
     synchronized (jitBindingData.lock()) {
       // first try to find a JIT binding that we've already created
       for (InjectorImpl injector = this; injector != null; injector = injector.parent) {
@@ -271,16 +377,7 @@ final class InjectorImpl implements Injector, Lookups {
         var binding = injector.jitBindingData.getJitBinding(key);
 
         if (binding != null) {
-          // If we found a JIT binding and we don't allow them,
-          // fail.  (But allow bindings created through TypeConverters.)
-          if (options.jitDisabled
-              && jitType == JitLimitation.NO_JIT
-              && !jitOverride
-              && !(binding instanceof ConvertedConstantBindingImpl)) {
-            throw errors.jitDisabled(key).toException();
-          } else {
-            return binding;
-          }
+          return checkJitAllowed(binding, key, errors, jitType, jitOverride);
         }
       }
 
@@ -305,6 +402,36 @@ final class InjectorImpl implements Injector, Lookups {
     } // end synchronized(jitBindingData.lock())
   }
 
+  /** Returns the JIT binding for {@code key} that was frozen in this injector or an ancestor. */
+  private <T> BindingImpl<T> getFrozenJitBinding(Key<T> key) {
+    for (InjectorImpl injector = this; injector != null; injector = injector.parent) {
+      var binding = injector.jitBindingData.getFrozenJitBinding(key);
+      if (binding != null || injector.jitBindingData.frozenIncludesAncestors()) {
+        return binding;
+      }
+    }
+    return null;
+  }
+
+  /** Returns {@code binding}, unless it's a JIT binding that {@code jitType} doesn't allow. */
+  private <T> BindingImpl<T> checkJitAllowed(
+      BindingImpl<T> binding,
+      Key<T> key,
+      Errors errors,
+      JitLimitation jitType,
+      boolean jitOverride)
+      throws ErrorsException {
+    // If we found a JIT binding and we don't allow them,
+    // fail.  (But allow bindings created through TypeConverters.)
+    if (options.jitDisabled
+        && jitType == JitLimitation.NO_JIT
+        && !jitOverride
+        && !(binding instanceof ConvertedConstantBindingImpl)) {
+      throw errors.jitDisabled(key).toException();
+    }
+    return binding;
+  }
+
   /** Returns true if the key type is Provider (but not a subclass of Provider). */
   private static boolean isProvider(Key<?> key) {
     return key.getTypeLiteral().getRawType().equals(Provider.class);
@@ -450,6 +577,189 @@ final class InjectorImpl implements Injector, Lookups {
     }
   }
 
+  /**
+   * A type of handle to the instances of a binding, like {@code Lazy<T>}. A key of the type gets a
+   * framework-created JIT binding to new handles whenever {@code T} is bound.
+   */
+  private enum HandleType {
+    LAZY(Lazy.class) {
+      @Override
+      Errors cannotInjectRaw(Errors errors) {
+        return errors.cannotInjectRawLazy();
+      }
+
+      @Override
+      <T> Function<Provider<T>, ? extends Provider<T>> handleFactory(
+          BindingImpl<T> binding, Errors errors) {
+        return MemoizingLazy::new;
+      }
+    },
+
+    /** Handles to the instances of a binding in a {@link PooledScope}. */
+    POOLED(Pooled.class) {
+      @Override
+      Errors cannotInjectRaw(Errors errors) {
+        return errors.cannotInjectRawPooled();
+      }
+
+      @Override
+      boolean canHandle(BindingImpl<?> binding) {
+        return getPool(binding) != null;
+      }
+
+      @Override
+      <T> Function<Provider<T>, ? extends Provider<T>> handleFactory(
+          BindingImpl<T> binding, Errors errors) throws ErrorsException {
+        PooledScope.PooledProvider<T> pool = getPool(binding);
+        if (pool == null) {
+          throw errors.notPooled(binding.getKey()).toException();
+        }
+        return provider -> new PooledHandle<T>(provider, pool);
+      }
+
+      /** Returns the pool of the instances of {@code binding}, or null if it isn't pooled. */
+      private <T> PooledScope.PooledProvider<T> getPool(BindingImpl<T> binding) {
+        InternalFactory<? extends T> factory = binding.getInternalFactory();
+        Provider<?> scoped =
+            factory instanceof InternalFactoryToScopedProviderAdapter
+                ? ((InternalFactoryToScopedProviderAdapter<?>) factory).getProvider()
+                : null;
+        @SuppressWarnings("unchecked") // the pool holds the instances of the binding
+        PooledScope.PooledProvider<T> pool =
+            scoped instanceof PooledScope.PooledProvider
+                ? (PooledScope.PooledProvider<T>) scoped
+                : null;
+        return pool;
+      }
+    };
+
+    private static final HandleType[] ALL = values();
+
+    private final Class<?> rawType;
+
+    HandleType(Class<?> rawType) {
+      this.rawType = rawType;
+    }
+
+    /** Returns the handle type of the key type (but not of a subtype), or null if it has none. */
+    static HandleType of(Key<?> key) {
+      Class<?> rawType = key.getTypeLiteral().getRawType();
+      for (HandleType handleType : ALL) {
+        if (handleType.rawType == rawType) {
+          return handleType;
+        }
+      }
+      return null;
+    }
+
+    /** Records the error of injecting this type without a type argument. */
+    abstract Errors cannotInjectRaw(Errors errors);
+
+    /** Returns true if {@code binding} can have handles of this type. */
+    boolean canHandle(BindingImpl<?> binding) {
+      return true;
+    }
+
+    /** Returns the function that creates a handle from the provider of {@code binding}. */
+    abstract <T> Function<Provider<T>, ? extends Provider<T>> handleFactory(
+        BindingImpl<T> binding, Errors errors) throws ErrorsException;
+
+    <T> Key<T> getProvidedKey(Key<? extends Provider<T>> key, Errors errors)
+        throws ErrorsException {
+      Type handleType = key.getTypeLiteral().getType();
+      if (!(handleType instanceof ParameterizedType)) {
+        throw cannotInjectRaw(errors).toException();
+      }
+      Type entryType = ((ParameterizedType) handleType).getActualTypeArguments()[0];
+      @SuppressWarnings("unchecked") // safe because T came from the key's type argument
+      Key<T> providedKey = (Key<T>) key.ofType(entryType);
+      return providedKey;
+    }
+  }
+
+  /**
+   * Creates a synthetic binding to a handle type, like {@code Lazy<T>}: a framework-created JIT
+   * binding that injects a new handle to the instances of {@code Binding<T>}.
+   */
+  private <H extends Provider<T>, T> BindingImpl<H> createSyntheticHandleBinding(
+      HandleType handleType, Key<H> key, Errors errors) throws ErrorsException {
+    Key<T> providedKey = handleType.getProvidedKey(key, errors);
+    BindingImpl<T> delegate = getBindingOrThrow(providedKey, errors, JitLimitation.NO_JIT);
+    return new SyntheticHandleBindingImpl<H, T>(
+        this, key, delegate, handleType.handleFactory(delegate, errors));
+  }
+
+  /** A framework-created JIT binding to a handle type, like {@code Lazy<T>}. */
+  private static class SyntheticHandleBindingImpl<H extends Provider<T>, T> extends BindingImpl<H>
+      implements ProviderBinding<H>, HasDependencies {
+    final BindingImpl<T> providedBinding;
+
+    SyntheticHandleBindingImpl(
+        InjectorImpl injector,
+        Key<H> key,
+        BindingImpl<T> providedBinding,
+        Function<Provider<T>, ? extends Provider<T>> handleFactory) {
+      super(
+          injector,
+          key,
+          providedBinding.getSource(),
+          new InternalFactory<H>() {
+            @Override
+            @SuppressWarnings("unchecked") // the handle factory creates handles of the key's type
+            public H get(InternalContext context, Dependency<?> dependency, boolean linked) {
+              return (H) handleFactory.apply(providedBinding.getProvider());
+            }
+          },
+          Scoping.UNSCOPED);
+      this.providedBinding = providedBinding;
+    }
+
+    @Override
+    public Key<? extends T> getProvidedKey() {
+      return providedBinding.getKey();
+    }
+
+    @Override
+    public <V> V acceptTargetVisitor(BindingTargetVisitor<? super H, V> visitor) {
+      return visitor.visit(this);
+    }
+
+    @Override
+    public void applyTo(Binder binder) {
+      throw new UnsupportedOperationException("This element represents a synthetic binding.");
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(ProviderBinding.class)
+          .add("key", getKey())
+          .add("providedKey", getProvidedKey())
+          .toString();
+    }
+
+    @Override
+    public Set<Dependency<?>> getDependencies() {
+      return ImmutableSet.<Dependency<?>>of(Dependency.get(getProvidedKey()));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj instanceof SyntheticHandleBindingImpl) {
+        SyntheticHandleBindingImpl<?, ?> o = (SyntheticHandleBindingImpl<?, ?>) obj;
+        return getKey().equals(o.getKey())
+            && getScoping().equals(o.getScoping())
+            && Objects.equal(providedBinding, o.providedBinding);
+      } else {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(getKey(), getScoping(), providedBinding);
+    }
+  }
+
   /**
    * Converts a constant string binding to the required type.
    *
@@ -838,6 +1148,7 @@ final class InjectorImpl implements Injector, Lookups {
             providerKey,
             internalFactory);
     internalFactory.setProvisionListenerCallback(provisionListenerStore.get(binding));
+    internalFactory.setProvisionCounters(provisionCounters.get(key));
     return binding;
   }
 
@@ -896,29 +1207,79 @@ final class InjectorImpl implements Injector, Lookups {
         throw errors.jitDisabledInParent(key).toException();
       }
 
-      try {
-        return parent.createJustInTimeBindingRecursive(
-            key,
-            new Errors(),
-            jitDisabled,
-            parent.options.jitDisabled ? JitLimitation.NO_JIT : jitType);
-      } catch (ErrorsException ignored) {
-        // If JIT binding creation failed in parent injector(s), create the JIT binding in this
-        // injector instead.
+      BindingImpl<T> binding =
+          parent.createJustInTimeBindingForChild(
+              key, jitDisabled, parent.options.jitDisabled ? JitLimitation.NO_JIT : jitType);
+      if (binding != null) {
+        return binding;
+      }
+      // If JIT binding creation failed in parent injector(s), create the JIT binding in this
+      // injector instead.
+    }
+
+    return createJustInTimeBindingHere(key, errors, jitDisabled, jitType);
+  }
+
+  /**
+   * Like {@link #createJustInTimeBindingRecursive}, but called by a child injector, which creates
+   * the binding itself if this returns null. Failing here is the common case, so it's reported
+   * without building errors where possible, and remembered if it will happen again.
+   */
+  private <T> BindingImpl<T> createJustInTimeBindingForChild(
+      Key<T> key, boolean jitDisabled, JitLimitation jitType) {
+    if (parent != null) {
+      if (jitType == JitLimitation.NEW_OR_EXISTING_JIT
+          && jitDisabled
+          && !parent.options.jitDisabled) {
+        return null;
+      }
+      BindingImpl<T> binding =
+          parent.createJustInTimeBindingForChild(
+              key, jitDisabled, parent.options.jitDisabled ? JitLimitation.NO_JIT : jitType);
+      if (binding != null) {
+        return binding;
+      }
+    }
+
+    if (jitBindingData.isMissingJitBindingForChildren(key) || jitBindingData.isBannedKey(key)) {
+      return null;
+    }
+    int bannedKeyFailures = jitBindingData.getBannedKeyFailures();
+    try {
+      return createJustInTimeBindingHere(key, new Errors(), jitDisabled, jitType);
+    } catch (ErrorsException ignored) {
+      // Don't remember failures that a child with JIT bindings enabled might not have, or that
+      // involved banned keys, since those are released when the children that bound them are
+      // garbage collected.
+      if (!jitDisabled && jitBindingData.getBannedKeyFailures() == bannedKeyFailures) {
+        jitBindingData.addMissingJitBindingForChildren(key);
       }
+      return null;
     }
+  }
 
+  /** Creates a just-in-time binding for {@code key} in this injector and caches it. */
+  private <T> BindingImpl<T> createJustInTimeBindingHere(
+      Key<T> key, Errors errors, boolean jitDisabled, JitLimitation jitType)
+      throws ErrorsException {
     // Retrieve the sources before checking for banned key to guard against sources becoming null
     // due to a full GC happening after calling jitBindingData.isBanned and
     // state.getSourcesForBannedKey.
     // TODO(user): Consolidate these two APIs.
     Set<Object> sources = jitBindingData.getSourcesForBannedKey(key);
     if (jitBindingData.isBannedKey(key)) {
+      jitBindingData.addBannedKeyFailure();
       throw errors.childBindingAlreadySet(key, sources).toException();
     }
 
     key = MoreTypes.canonicalizeKey(key); // before storing the key long-term, canonicalize it.
-    BindingImpl<T> binding = createJustInTimeBinding(key, errors, jitDisabled, jitType);
+    Object event = GuiceEvents.beginJitBinding();
+    BindingImpl<T> binding;
+    try {
+      binding = createJustInTimeBinding(key, errors, jitDisabled, jitType);
+    } finally {
+      GuiceEvents.endJitBinding(event, key);
+    }
     jitBindingData.banKeyInParent(key, bindingData, binding.getSource());
     jitBindingData.putJitBinding(key, binding);
     return binding;
@@ -949,6 +1310,7 @@ final class InjectorImpl implements Injector, Lookups {
     // TODO(user): Consolidate these two APIs.
     Set<Object> sources = jitBindingData.getSourcesForBannedKey(key);
     if (jitBindingData.isBannedKey(key)) {
+      jitBindingData.addBannedKeyFailure();
       throw errors.childBindingAlreadySet(key, sources).toException();
     }
 
@@ -961,6 +1323,17 @@ final class InjectorImpl implements Injector, Lookups {
       return binding;
     }
 
+    // Handle cases where T is a handle type, like Lazy<?>.
+    HandleType handleType = HandleType.of(key);
+    if (handleType != null) {
+      // These casts are safe. We know T extends Provider<X> for a handle type, and that given
+      // Key<Lazy<X>>, createSyntheticHandleBinding() will return BindingImpl<Lazy<X>>.
+      @SuppressWarnings("unchecked")
+      BindingImpl<T> binding =
+          (BindingImpl<T>) createSyntheticHandleBinding(handleType, (Key) key, errors);
+      return binding;
+    }
+
     // Handle cases where T is a MembersInjector<?>
     if (isMembersInjector(key)) {
       // These casts are safe. T extends MembersInjector<X> and that given Key<MembersInjector<X>>,
@@ -1115,9 +1488,15 @@ final class InjectorImpl implements Injector, Lookups {
   /** Cached field and method injectors for each type. */
   MembersInjectorStore membersInjectorStore;
 
+  /** Provision counters for each key, if provision metrics are enabled. */
+  final ProvisionCountersStore provisionCounters = new ProvisionCountersStore();
+
   /** Cached provision listener callbacks for each key. */
   ProvisionListenerCallbackStore provisionListenerStore;
 
+  /** How long it took to create this injector, or null while it's being created. */
+  volatile InjectorCreationReport creationReport;
+
   @Override
   @SuppressWarnings({
     "unchecked",
@@ -1131,6 +1510,7 @@ final class InjectorImpl implements Injector, Lookups {
   @Override
   public <T> MembersInjector<T> getMembersInjector(TypeLiteral<T> typeLiteral) {
     checkNotNull(typeLiteral, "typeLiteral");
+    checkNotClosed();
     userRequestedMembersInjectorTypes.add(typeLiteral);
 
     Errors errors = new Errors(typeLiteral);
@@ -1156,6 +1536,7 @@ final class InjectorImpl implements Injector, Lookups {
   @Override
   public <T> Provider<T> getProvider(final Key<T> key) {
     checkNotNull(key, "key");
+    checkNotClosed();
     Errors errors = new Errors(key);
     try {
       // Access off the BindingImpl to leverage the cached provider.
@@ -1203,10 +1584,58 @@ final class InjectorImpl implements Injector, Lookups {
     return getProvider(type).get();
   }
 
+  @Override
+  public <T> CompletableFuture<T> getInstanceAsync(Key<T> key, Executor executor) {
+    checkNotNull(key, "key");
+    checkNotNull(executor, "executor");
+    checkNotClosed();
+    return AsyncProvisioner.provision(this, key, executor);
+  }
+
+  @Override
+  public Instances getInstances(Collection<? extends Key<?>> keys) {
+    checkNotClosed();
+    Key<?>[] keyArray = keys.toArray(new Key<?>[0]);
+    InternalFactory<?>[] factories = new InternalFactory<?>[keyArray.length];
+    Dependency<?>[] dependencies = new Dependency<?>[keyArray.length];
+    Errors errors = new Errors();
+    for (int i = 0; i < keyArray.length; i++) {
+      Key<?> key = checkNotNull(keyArray[i], "keys[%s]", i);
+      try {
+        factories[i] = getBindingOrThrow(key, errors, JitLimitation.NO_JIT).getInternalFactory();
+        dependencies[i] = Dependency.get(key);
+      } catch (ErrorsException e) {
+        // Keep going, to report every key that can't be found at once.
+        errors.merge(e.getErrors());
+      }
+    }
+    if (errors.hasErrors()) {
+      throw new ConfigurationException(errors.getMessages());
+    }
+
+    Object[] instances = new Object[keyArray.length];
+    InternalContext context = enterContext();
+    try {
+      for (int i = 0; i < keyArray.length; i++) {
+        try {
+          instances[i] = factories[i].get(context, dependencies[i], false);
+        } catch (InternalProvisionException e) {
+          throw e.addSource(dependencies[i]).toProvisionException();
+        }
+      }
+    } finally {
+      context.close();
+    }
+    return new InstancesImpl(keyArray, instances);
+  }
+
   /**
    * Holds Object[] as a mutable wrapper, rather than InternalContext, since array operations are
    * faster than ThreadLocal.set() / .get() operations.
    *
+   * <p>The first slot holds the active context, the second a {@link java.lang.ref.WeakReference} to
+   * an idle context that top level calls reuse instead of allocating a new one.
+   *
    * <p>Holds Object[] rather than InternalContext[], since localContext never gets cleaned up at
    * any point. This could lead to problems when, for example, an OSGI application is reloaded, the
    * InjectorImpl is destroyed, but the thread that the injector runs on is kept alive. In such a
@@ -1218,7 +1647,7 @@ final class InjectorImpl implements Injector, Lookups {
 
   /** Only to be called by the {@link SingletonScope} provider. */
   InternalContext getLocalContext() {
-    return (InternalContext) localContext.get()[0];
+    return (InternalContext) localContext.get()[InternalContext.ACTIVE_CONTEXT];
   }
 
   /**
@@ -1240,12 +1669,16 @@ final class InjectorImpl implements Injector, Lookups {
   InternalContext enterContext() {
     Object[] reference = localContext.get();
     if (reference == null) {
-      reference = new Object[1];
+      reference = new Object[2];
       localContext.set(reference);
     }
-    InternalContext ctx = (InternalContext) reference[0];
+    InternalContext ctx = (InternalContext) reference[InternalContext.ACTIVE_CONTEXT];
     if (ctx == null) {
-      reference[0] = ctx = InternalContext.create(options.disableCircularProxies, reference);
+      // Top level call, reuse the idle context for this thread if there is one. Tight loops calling
+      // Provider.get() on unscoped bindings would otherwise allocate a context (and possibly its
+      // tables) per call.
+      reference[InternalContext.ACTIVE_CONTEXT] =
+          ctx = InternalContext.reuseOrCreate(options.disableCircularProxies, reference);
     } else {
       ctx.enter();
     }
@@ -4,6 +4,7 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.inject.Key;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -14,13 +15,41 @@ import java.util.Set;
  * ProvisionListenerCallbackStore}, which are still stored in {@link InjectorImpl}.
  */
 final class InjectorJitBindingData {
+  /** The maximum number of keys in {@link #missingJitBindingsForChildren}. */
+  static final int MAX_MISSING_JIT_BINDINGS_FOR_CHILDREN = 1024;
+
   /** Just-in-time binding cache. Guarded by {@link #lock}. */
-  private final Map<Key<?>, BindingImpl<?>> jitBindings = Maps.newHashMap();
+  private Map<Key<?>, BindingImpl<?>> jitBindings = Maps.newHashMap();
+  /**
+   * The just-in-time bindings created while creating the injector, once it's {@link #freeze
+   * frozen}. They're no longer in {@link #jitBindings}, and can be read without holding the lock.
+   */
+  private volatile FrozenBindingTable frozenJitBindings;
+  /** Whether {@link #frozenJitBindings} includes the frozen bindings of the ancestors. */
+  private boolean frozenIncludesAncestors;
   /**
    * Cache of Keys that we were unable to create JIT bindings for, so we don't keep trying. Guarded
    * by {@link #lock}.
    */
   private final Set<Key<?>> failedJitBindings = Sets.newHashSet();
+  /**
+   * Keys that child injectors asked this injector to create JIT bindings for, and that it couldn't
+   * create. Only failures that will happen again are recorded, so children can skip straight to
+   * creating the binding themselves. Children may ask for any number of keys, so only the most
+   * recently used ones are kept, and the others are asked for again. Guarded by {@link #lock}.
+   */
+  private final Map<Key<?>, Boolean> missingJitBindingsForChildren =
+      new LinkedHashMap<Key<?>, Boolean>(16, 0.75f, /* accessOrder= */ true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key<?>, Boolean> eldest) {
+          return size() > MAX_MISSING_JIT_BINDINGS_FOR_CHILDREN;
+        }
+      };
+  /**
+   * The number of JIT bindings this injector failed to create because their keys were banned.
+   * Guarded by {@link #lock}.
+   */
+  private int bannedKeyFailures;
 
   // The set of JIT binding keys that are banned for this particular injector, because a binding
   // already exists in a child injector. Guarded by {@link #lock}.
@@ -42,15 +71,70 @@ final class InjectorJitBindingData {
   }
 
   Map<Key<?>, BindingImpl<?>> getJitBindings() {
-    return Collections.unmodifiableMap(jitBindings);
+    FrozenBindingTable frozen = frozenJitBindings;
+    if (frozen == null) {
+      return Collections.unmodifiableMap(jitBindings);
+    }
+    Map<Key<?>, BindingImpl<?>> bindings = Maps.newHashMap(jitBindings);
+    frozen.copyTo(bindings);
+    return Collections.unmodifiableMap(bindings);
   }
 
   <T> BindingImpl<T> getJitBinding(Key<T> key) {
-    @SuppressWarnings("unchecked") // safe because putJitBinding maintains this relationship
-    BindingImpl<T> binding = (BindingImpl<T>) jitBindings.get(key);
+    BindingImpl<T> binding = getFrozenJitBinding(key);
+    if (binding == null) {
+      @SuppressWarnings("unchecked") // safe because putJitBinding maintains this relationship
+      BindingImpl<T> mutableBinding = (BindingImpl<T>) jitBindings.get(key);
+      binding = mutableBinding;
+    }
     return binding;
   }
 
+  /**
+   * Returns the just-in-time binding for {@code key} if it was created before the injector was
+   * frozen. Unlike the other methods, this doesn't require holding the lock.
+   */
+  <T> BindingImpl<T> getFrozenJitBinding(Key<T> key) {
+    FrozenBindingTable frozen = frozenJitBindings;
+    return frozen != null ? frozen.get(key) : null;
+  }
+
+  /**
+   * Returns true if {@link #getFrozenJitBinding} also finds the bindings frozen in the ancestors.
+   */
+  boolean frozenIncludesAncestors() {
+    return frozenJitBindings != null && frozenIncludesAncestors;
+  }
+
+  /**
+   * Moves the just-in-time bindings created so far into a {@link FrozenBindingTable}. Bindings
+   * created afterwards are cached as usual.
+   *
+   * @param includeAncestors whether to also copy the frozen bindings of the ancestors, so that
+   *     lookups don't walk up the hierarchy
+   */
+  void freeze(boolean includeAncestors) {
+    Map<Key<?>, BindingImpl<?>> bindings = jitBindings;
+    if (includeAncestors && parent.isPresent()) {
+      bindings = Maps.newHashMap();
+      parent.get().addFrozenJitBindings(bindings);
+      bindings.putAll(jitBindings);
+    }
+    frozenIncludesAncestors = includeAncestors;
+    frozenJitBindings = new FrozenBindingTable(bindings);
+    jitBindings = Maps.newHashMap();
+  }
+
+  private void addFrozenJitBindings(Map<Key<?>, BindingImpl<?>> bindings) {
+    if (parent.isPresent() && !frozenIncludesAncestors()) {
+      parent.get().addFrozenJitBindings(bindings);
+    }
+    FrozenBindingTable frozen = frozenJitBindings;
+    if (frozen != null) {
+      frozen.copyTo(bindings);
+    }
+  }
+
   <T> void putJitBinding(Key<T> key, BindingImpl<T> binding) {
     jitBindings.put(key, binding);
   }
@@ -67,6 +151,14 @@ final class InjectorJitBindingData {
     failedJitBindings.add(key);
   }
 
+  boolean isMissingJitBindingForChildren(Key<?> key) {
+    return missingJitBindingsForChildren.get(key) != null;
+  }
+
+  void addMissingJitBindingForChildren(Key<?> key) {
+    missingJitBindingsForChildren.put(key, Boolean.TRUE);
+  }
+
   /**
    * Forbids the corresponding injector and its ancestors from creating a binding to {@code key}.
    * Child injectors ban their bound keys on their parent injectors to prevent just-in-time bindings
@@ -97,6 +189,40 @@ final class InjectorJitBindingData {
     return bannedKeys.contains(key);
   }
 
+  /** Records that a JIT binding couldn't be created because its key was banned. */
+  void addBannedKeyFailure() {
+    bannedKeyFailures++;
+  }
+
+  /**
+   * Returns the number of JIT bindings that couldn't be created because their keys were banned, in
+   * the corresponding injector and its ancestors. Since banned keys are removed when the child
+   * injectors that bound them are collected, these failures may not happen again.
+   */
+  int getBannedKeyFailures() {
+    return bannedKeyFailures + (parent.isPresent() ? parent.get().getBannedKeyFailures() : 0);
+  }
+
+  /**
+   * Drops the just-in-time bindings, and releases the keys that {@code injectorBindingData}, the
+   * data of the corresponding injector, banned in the ancestors.
+   */
+  void close(InjectorBindingData injectorBindingData) {
+    jitBindings = Maps.newHashMap();
+    frozenJitBindings = null;
+    frozenIncludesAncestors = false;
+    failedJitBindings.clear();
+    missingJitBindingsForChildren.clear();
+    unbanKeysInParent(injectorBindingData);
+  }
+
+  private void unbanKeysInParent(InjectorBindingData injectorBindingData) {
+    if (parent.isPresent()) {
+      parent.get().bannedKeys.removeAll(injectorBindingData);
+      parent.get().unbanKeysInParent(injectorBindingData);
+    }
+  }
+
   /** Returns the source of a banned key. */
   Set<Object> getSourcesForBannedKey(Key<?> key) {
     return bannedKeys.getSources(key);
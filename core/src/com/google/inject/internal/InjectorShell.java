@@ -17,16 +17,20 @@
 package com.google.inject.internal;
 
 import static com.google.common.base.Preconditions.checkState;
+import static com.google.inject.Scopes.GRAPH;
+import static com.google.inject.Scopes.REUSABLE;
 import static com.google.inject.Scopes.SINGLETON;
 import static com.google.inject.internal.GuiceInternal.GUICE_INTERNAL;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.inject.Binder;
+import com.google.inject.GraphScoped;
 import com.google.inject.Injector;
 import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Provider;
+import com.google.inject.Reusable;
 import com.google.inject.Singleton;
 import com.google.inject.Stage;
 import com.google.inject.internal.InjectorImpl.InjectorOptions;
@@ -142,6 +146,7 @@ final class InjectorShell {
     List<InjectorShell> build(
         Initializer initializer,
         ProcessedBindingData processedBindingData,
+        InjectorCreationRecorder recorder,
         ContinuousStopwatch stopwatch,
         Errors errors) {
       checkState(stage != null, "Stage not initialized");
@@ -157,7 +162,8 @@ final class InjectorShell {
       } else {
         modules.add(0, new InheritedScannersModule(parent.getBindingData()));
       }
-      elements.addAll(Elements.getElements(stage, modules));
+      elements.addAll(
+          Elements.getElements(GUICE_INTERNAL, stage, modules, recorder.moduleConfigureNanos));
 
       // Check binding source restrictions only for the root shell (note that the root shell
       // can have a parent Injector, when Injector.createChildInjector is called). It isn't
@@ -230,7 +236,8 @@ final class InjectorShell {
       PrivateElementProcessor processor = new PrivateElementProcessor(errors);
       processor.process(injector, elements);
       for (Builder builder : processor.getInjectorShellBuilders()) {
-        injectorShells.addAll(builder.build(initializer, processedBindingData, stopwatch, errors));
+        injectorShells.addAll(builder.build(
+                initializer, processedBindingData, recorder, stopwatch, errors));
       }
       stopwatch.resetAndLog("Private environment creation");
 
@@ -357,6 +364,8 @@ final class InjectorShell {
       binder = binder.withSource(SourceProvider.UNKNOWN_SOURCE);
       binder.bindScope(Singleton.class, SINGLETON);
       binder.bindScope(jakarta.inject.Singleton.class, SINGLETON);
+      binder.bindScope(Reusable.class, REUSABLE);
+      binder.bindScope(GraphScoped.class, GRAPH);
     }
   }
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import com.google.common.base.MoreObjects;
+import com.google.inject.Instances;
+import com.google.inject.Key;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Instances held in a single array, and looked up by key with a linear scan, which is faster than
+ * hashing for the dozens of keys of a typical batch.
+ */
+public final class InstancesImpl implements Instances {
+
+  private final Key<?>[] keys;
+  private final Object[] instances;
+
+  /** Holds {@code instances}, which must be in the same order as {@code keys}. */
+  public InstancesImpl(Key<?>[] keys, Object[] instances) {
+    this.keys = keys;
+    this.instances = instances;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public Key<?> getKey(int index) {
+    checkElementIndex(index, keys.length);
+    return keys[index];
+  }
+
+  @Override
+  public Object get(int index) {
+    checkElementIndex(index, instances.length);
+    return instances[index];
+  }
+
+  @Override
+  public <T> T get(Key<T> key) {
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i].equals(key)) {
+        @SuppressWarnings("unchecked") // the instance was provisioned for the key
+        T instance = (T) instances[i];
+        return instance;
+      }
+    }
+    throw new IllegalArgumentException(key + " wasn't requested");
+  }
+
+  @Override
+  public List<Object> asList() {
+    return Collections.unmodifiableList(Arrays.asList(instances));
+  }
+
+  @Override
+  public String toString() {
+    MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(Instances.class);
+    for (int i = 0; i < keys.length; i++) {
+      helper.add(keys[i].toString(), instances[i]);
+    }
+    return helper.toString();
+  }
+}
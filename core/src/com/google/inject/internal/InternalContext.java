@@ -21,6 +21,8 @@ import com.google.errorprone.annotations.Keep;
 import com.google.inject.spi.Dependency;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 
 /**
@@ -87,12 +89,82 @@ abstract class InternalContext implements AutoCloseable {
         : new WithProxySupport(toClear);
   }
 
+  /**
+   * Returns the idle context recorded in {@code toClear} if it is compatible with the requested
+   * circular proxy mode, otherwise creates a new one and records it for later reuse.
+   *
+   * <p>The idle context is only weakly referenced so that a thread outliving the injector never
+   * pins the {@code InternalContext} class (and thus the injector's classloader) through the
+   * thread local. See the comment on {@code InjectorImpl.localContext}.
+   */
+  static InternalContext reuseOrCreate(boolean disableCircularProxies, Object[] toClear) {
+    @SuppressWarnings("unchecked") // we only ever store WeakReference<InternalContext> here
+    WeakReference<InternalContext> idle = (WeakReference<InternalContext>) toClear[IDLE_CONTEXT];
+    if (idle != null) {
+      InternalContext ctx = idle.get();
+      if (ctx != null && ctx.areCircularProxiesEnabled() != disableCircularProxies) {
+        ctx.enterCount = 1;
+        return ctx;
+      }
+    }
+    InternalContext ctx = create(disableCircularProxies, toClear);
+    // Only remember the context if the slot is available, a thread that alternates between injectors
+    // with different circular proxy modes should simply allocate.
+    if (toClear.length > IDLE_CONTEXT && (idle == null || idle.get() == null)) {
+      toClear[IDLE_CONTEXT] = new WeakReference<>(ctx);
+    }
+    return ctx;
+  }
+
+  /** The index in the {@code toClear} array that holds the active context. */
+  static final int ACTIVE_CONTEXT = 0;
+
+  /**
+   * The index in the {@code toClear} array that holds a {@link WeakReference} to an idle context
+   * that may be reused by the next top level {@code InjectorImpl.enterContext()} call.
+   */
+  static final int IDLE_CONTEXT = 1;
+
   // enough space for 12 values before we need to resize the table
   private static final int INITIAL_TABLE_SIZE = 16;
 
+  /**
+   * Contexts whose tables grew past this size (deeply nested constructions) are not reused, so that
+   * a single unusual provision doesn't leave a large table hanging off the thread.
+   */
+  private static final int MAX_REUSABLE_TABLE_SIZE = 64;
+
+  /**
+   * Graph scoped instances arrays longer than this aren't kept after the outermost {@link #close},
+   * so that an injector tree with many graph scoped bindings doesn't leave a large array hanging
+   * off each thread.
+   */
+  private static final int MAX_REUSABLE_GRAPH_INSTANCES = 256;
+
   /** Keeps track of the type that is currently being requested for injection. */
   private Dependency<?> dependency;
 
+  /**
+   * The provision invocations of {@link ProvisionListenerStackCallback}, reused by provisions at
+   * the same nesting level.
+   */
+  private ProvisionListenerStackCallback.Provision<?>[] provisions = NO_PROVISIONS;
+
+  /** The number of provision invocations in use. */
+  private int provisionDepth;
+
+  private static final ProvisionListenerStackCallback.Provision<?>[] NO_PROVISIONS =
+      new ProvisionListenerStackCallback.Provision<?>[0];
+
+  /**
+   * The instances of the {@link GraphScope graph scoped} bindings provisioned since the outermost
+   * {@code InjectorImpl.enterContext()}, indexed by the slot of their binding.
+   */
+  private Object[] graphInstances;
+
+  /** One past the highest slot in {@link #graphInstances} that holds an instance. */
+  private int graphInstancesEnd;
+
   /**
    * The number of times {@link #enter()} has been called + 1 for initial construction. This value
    * is decremented when {@link #close()} is called.
@@ -111,6 +183,46 @@ abstract class InternalContext implements AutoCloseable {
     this.enterCount = 1;
   }
 
+  /**
+   * Returns a provision invocation that isn't in use, which must be released with {@link
+   * #popProvision}.
+   */
+  @SuppressWarnings("unchecked") // the invocation is reset for each provision
+  <T> ProvisionListenerStackCallback.Provision<T> pushProvision() {
+    int depth = provisionDepth++;
+    if (depth == provisions.length) {
+      provisions = Arrays.copyOf(provisions, Math.max(4, depth * 2));
+    }
+    ProvisionListenerStackCallback.Provision<?> provision = provisions[depth];
+    if (provision == null) {
+      provision = new ProvisionListenerStackCallback.Provision<>();
+      provisions[depth] = provision;
+    }
+    return (ProvisionListenerStackCallback.Provision<T>) provision;
+  }
+
+  void popProvision() {
+    provisionDepth--;
+  }
+
+  /** Returns the graph scoped instance in {@code slot}, or null if there is none. */
+  @Nullable
+  Object getGraphInstance(int slot) {
+    Object[] instances = graphInstances;
+    return instances != null && slot < instances.length ? instances[slot] : null;
+  }
+
+  /** Stores a graph scoped instance until the outermost {@link #close}. */
+  void putGraphInstance(int slot, Object instance) {
+    if (graphInstances == null) {
+      graphInstances = new Object[Math.max(8, slot + 1)];
+    } else if (slot >= graphInstances.length) {
+      graphInstances = Arrays.copyOf(graphInstances, Math.max(graphInstances.length * 2, slot + 1));
+    }
+    graphInstances[slot] = instance;
+    graphInstancesEnd = Math.max(graphInstancesEnd, slot + 1);
+  }
+
   /** Should only be called by InjectorImpl.enterContext(). */
   void enter() {
     enterCount++;
@@ -124,10 +236,33 @@ abstract class InternalContext implements AutoCloseable {
       throw new IllegalStateException("Called close() too many times");
     }
     if (newCount == 0) {
-      toClear[0] = null;
+      toClear[ACTIVE_CONTEXT] = null;
+      dependency = null;
+      if (graphInstancesEnd > 0) {
+        if (graphInstances.length > MAX_REUSABLE_GRAPH_INSTANCES) {
+          graphInstances = null;
+        } else {
+          Arrays.fill(graphInstances, 0, graphInstancesEnd, null);
+        }
+        graphInstancesEnd = 0;
+      }
+      if (!isReusable(MAX_REUSABLE_TABLE_SIZE) && toClear.length > IDLE_CONTEXT) {
+        @SuppressWarnings("unchecked") // we only ever store WeakReference<InternalContext> here
+        WeakReference<InternalContext> idle =
+            (WeakReference<InternalContext>) toClear[IDLE_CONTEXT];
+        if (idle != null && idle.get() == this) {
+          toClear[IDLE_CONTEXT] = null;
+        }
+      }
     }
   }
 
+  /**
+   * Returns true if no construction is in progress and the tables haven't grown past {@code
+   * maxTableSize}, meaning this context can be handed out again by {@link #reuseOrCreate}.
+   */
+  abstract boolean isReusable(int maxTableSize);
+
   /**
    * Returns true if circular proxies are enabled.
    *
@@ -219,6 +354,11 @@ abstract class InternalContext implements AutoCloseable {
       return false;
     }
 
+    @Override
+    boolean isReusable(int maxTableSize) {
+      return tableSize == 0 && table.length <= maxTableSize;
+    }
+
     @Override
     <T> T tryStartConstruction(int circularFactoryId, Dependency<T> forDependency)
         throws InternalProvisionException {
@@ -407,6 +547,11 @@ abstract class InternalContext implements AutoCloseable {
       return true;
     }
 
+    @Override
+    boolean isReusable(int maxTableSize) {
+      return tableSize == 0 && table.length <= maxTableSize;
+    }
+
     @Override
     <T> T tryStartConstruction(int circularFactoryId, Dependency<T> forDependency)
         throws InternalProvisionException {
@@ -46,6 +46,10 @@ class InternalFactoryToScopedProviderAdapter<T> implements InternalFactory<T> {
     this.source = checkNotNull(source, "source");
   }
 
+  Provider<? extends T> getProvider() {
+    return provider;
+  }
+
   @Override
   public T get(InternalContext context, Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
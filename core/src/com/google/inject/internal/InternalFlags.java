@@ -44,6 +44,19 @@ public final class InternalFlags {
   private static final ColorizeOption COLORIZE_OPTION =
       getSystemOption("guice_colorize_error_messages", ColorizeOption.OFF);
 
+  private static final ParallelBindingInitializationOption PARALLEL_BINDING_INITIALIZATION =
+      getSystemOption(
+          "guice_parallel_binding_initialization", ParallelBindingInitializationOption.DISABLED);
+
+  private static final KeyInterningOption KEY_INTERNING =
+      getSystemOption("guice_intern_keys", KeyInterningOption.DISABLED);
+
+  private static final FrozenBindingsOption FROZEN_BINDINGS =
+      getSystemOption("guice_freeze_bindings", FrozenBindingsOption.DISABLED);
+
+  private static final ProvisionMetricsOption PROVISION_METRICS =
+      getSystemOption("guice_provision_metrics", ProvisionMetricsOption.DISABLED);
+
   /** The options for Guice stack trace collection. */
   public enum IncludeStackTraceOption {
     /** No stack trace collection */
@@ -141,6 +154,72 @@ public final class InternalFlags {
     abstract boolean enabled();
   }
 
+  /**
+   * Options for preparing bindings in parallel during injector creation.
+   *
+   * <p>When enabled, the reflective and bytecode generation work needed to initialize the bindings
+   * of a new injector is done on the common fork-join pool before the bindings are initialized.
+   * Bindings are still initialized, and errors reported, in the same order as when disabled.
+   */
+  public enum ParallelBindingInitializationOption {
+    /** Bindings are prepared on the thread creating the injector. */
+    DISABLED,
+    /** Bindings are prepared in parallel. */
+    ENABLED,
+  }
+
+  /**
+   * Options for interning keys and type literals.
+   *
+   * <p>When enabled, keys and type literals created by Guice's factory methods are canonicalized,
+   * so that equal instances are usually the same instance. This shrinks the heap used by the
+   * bindings and dependencies of large injectors, and makes most equality checks identity checks,
+   * at the cost of a lookup whenever a key or type literal is created.
+   */
+  public enum KeyInterningOption {
+    /** Keys and type literals are not interned. */
+    DISABLED,
+    /** Keys and type literals are interned. */
+    ENABLED,
+  }
+
+  /**
+   * Options for freezing the bindings of injectors once they're created.
+   *
+   * <p>When enabled, the explicit bindings of a new injector, and the just-in-time bindings created
+   * while creating it, are copied into immutable hash tables. Looking them up no longer requires
+   * the lock shared by the injector and its ancestors. This helps injectors that, like those using
+   * {@link com.google.inject.Binder#requireExplicitBindings}, create all the bindings they use up
+   * front. Just-in-time bindings created later are still cached as usual.
+   */
+  public enum FrozenBindingsOption {
+    /** Bindings are kept in the maps they were created in. */
+    DISABLED,
+    /** Bindings are copied into immutable tables once the injector is created. */
+    ENABLED,
+    /**
+     * Like {@link #ENABLED}, but the tables of a child injector also contain the bindings of its
+     * ancestors, so that looking up a binding takes a single lookup, however deep the hierarchy.
+     * This uses more memory for each child injector.
+     */
+    FLATTENED,
+  }
+
+  /**
+   * Options for counting the provisions of each binding.
+   *
+   * <p>When enabled, each binding that creates instances counts its provisions, its failed
+   * provisions, and the total and maximum time they took, as reported by {@link
+   * com.google.inject.spi.ProvisionMetrics#snapshot}. This costs two reads of the clock per
+   * provision, but doesn't allocate.
+   */
+  public enum ProvisionMetricsOption {
+    /** Provisions are not counted. */
+    DISABLED,
+    /** Provisions are counted. */
+    ENABLED,
+  }
+
   public static IncludeStackTraceOption getIncludeStackTraceOption() {
     return INCLUDE_STACK_TRACES;
   }
@@ -157,6 +236,26 @@ public final class InternalFlags {
     return BYTECODE_GEN_OPTION == BytecodeGenOption.ENABLED;
   }
 
+  public static boolean isParallelBindingInitializationEnabled() {
+    return PARALLEL_BINDING_INITIALIZATION == ParallelBindingInitializationOption.ENABLED;
+  }
+
+  public static boolean isKeyInterningEnabled() {
+    return KEY_INTERNING == KeyInterningOption.ENABLED;
+  }
+
+  public static boolean isFrozenBindingsEnabled() {
+    return FROZEN_BINDINGS != FrozenBindingsOption.DISABLED;
+  }
+
+  public static boolean isFlattenedBindingsEnabled() {
+    return FROZEN_BINDINGS == FrozenBindingsOption.FLATTENED;
+  }
+
+  public static boolean isProvisionMetricsEnabled() {
+    return PROVISION_METRICS == ProvisionMetricsOption.ENABLED;
+  }
+
   public static boolean enableColorizeErrorMessages() {
     return COLORIZE_OPTION.enabled();
   }
@@ -19,6 +19,7 @@ package com.google.inject.internal;
 import com.google.common.base.Stopwatch;
 import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Instances;
 import com.google.inject.Key;
 import com.google.inject.MembersInjector;
 import com.google.inject.Module;
@@ -30,6 +31,7 @@ import com.google.inject.internal.util.ContinuousStopwatch;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.Element;
 import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectorCreationReport;
 import com.google.inject.spi.TypeConverterBinding;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
@@ -37,6 +39,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Builds a tree of injectors. This is a primary injector, plus child injectors needed for each
@@ -64,6 +68,7 @@ public final class InternalInjectorCreator {
       new ContinuousStopwatch(Stopwatch.createUnstarted());
   private final Errors errors = new Errors();
 
+  private final InjectorCreationRecorder recorder = new InjectorCreationRecorder();
   private final Initializer initializer = new Initializer();
   private final ProcessedBindingData processedBindingData;
   private final InjectionRequestProcessor injectionRequestProcessor;
@@ -73,7 +78,7 @@ public final class InternalInjectorCreator {
 
   public InternalInjectorCreator() {
     injectionRequestProcessor = new InjectionRequestProcessor(errors, initializer);
-    processedBindingData = new ProcessedBindingData();
+    processedBindingData = new ProcessedBindingData(recorder);
   }
 
   public InternalInjectorCreator stage(Stage stage) {
@@ -104,7 +109,8 @@ public final class InternalInjectorCreator {
     // Synchronize while we're building up the bindings and other injector data. This ensures that
     // the JIT bindings in the parent injector don't change while we're being built
     synchronized (shellBuilder.lock()) {
-      shells = shellBuilder.build(initializer, processedBindingData, stopwatch, errors);
+      shells =
+          shellBuilder.build(initializer, processedBindingData, recorder, stopwatch, errors);
       stopwatch.resetAndLog("Injector construction");
 
       initializeStatically();
@@ -112,6 +118,15 @@ public final class InternalInjectorCreator {
 
     injectDynamically();
 
+    if (InternalFlags.isFrozenBindingsEnabled()) {
+      freezeBindings();
+    }
+
+    InjectorCreationReport report = recorder.finish(stopwatch);
+    for (InjectorShell shell : shells) {
+      shell.getInjector().creationReport = report;
+    }
+
     if (shellBuilder.getStage() == Stage.TOOL) {
       // wrap the primaryInjector in a ToolStageInjector
       // to prevent non-tool-friendy methods from being called.
@@ -126,6 +141,12 @@ public final class InternalInjectorCreator {
     processedBindingData.initializeBindings();
     stopwatch.resetAndLog("Binding initialization");
 
+    ReachableBindingInitializer reachableBindingInitializer =
+        shellBuilder.getStage() == Stage.LAZY
+            ? ReachableBindingInitializer.collectRoots(
+                shells, processedBindingData.getDeferredInitializers(), errors)
+            : null;
+
     for (InjectorShell shell : shells) {
       shell.getInjector().getBindingData().indexBindingsByType();
     }
@@ -146,6 +167,11 @@ public final class InternalInjectorCreator {
     processedBindingData.initializeDelayedBindings();
     stopwatch.resetAndLog("Delayed Binding initialization");
 
+    if (reachableBindingInitializer != null) {
+      reachableBindingInitializer.initializeReachableBindings();
+      stopwatch.resetAndLog("Reachable binding initialization");
+    }
+
     new LookupProcessor(errors).process(shells);
     for (InjectorShell shell : shells) {
       ((DeferredLookups) shell.getInjector().lookups).initialize(errors);
@@ -160,6 +186,29 @@ public final class InternalInjectorCreator {
     }
 
     errors.throwCreationExceptionIfErrorsExist();
+
+    markAcyclicConstructors();
+  }
+
+  /**
+   * When circular proxies are disabled, the only purpose of tracking constructions in {@link
+   * InternalContext} is to report cycles. Constructors that are proven to be outside of any cycle
+   * can skip that work.
+   */
+  private void markAcyclicConstructors() {
+    if (shellBuilder.getStage() == Stage.TOOL) {
+      return;
+    }
+    List<InjectorImpl> injectors = new ArrayList<>();
+    for (InjectorShell shell : shells) {
+      if (shell.getInjector().options.disableCircularProxies) {
+        injectors.add(shell.getInjector());
+      }
+    }
+    if (!injectors.isEmpty()) {
+      AcyclicBindingAnalyzer.markAcyclicConstructors(injectors);
+      stopwatch.resetAndLog("Acyclic constructor analysis");
+    }
   }
 
   /** Returns the injector being constructed. This is not necessarily the root injector. */
@@ -189,6 +238,22 @@ public final class InternalInjectorCreator {
     errors.throwCreationExceptionIfErrorsExist();
   }
 
+  /**
+   * Copies the bindings of the new injectors into {@link FrozenBindingTable}s, so that looking them
+   * up doesn't require the JIT lock.
+   */
+  private void freezeBindings() {
+    boolean includeAncestors = InternalFlags.isFlattenedBindingsEnabled();
+    synchronized (shellBuilder.lock()) {
+      for (InjectorShell shell : shells) {
+        InjectorImpl injector = shell.getInjector();
+        injector.getBindingData().freeze(includeAncestors);
+        injector.getJitBindingData().freeze(includeAncestors);
+      }
+    }
+    stopwatch.resetAndLog("Binding freezing");
+  }
+
   /**
    * Loads eager singletons, or all singletons if we're in Stage.PRODUCTION. Bindings discovered
    * while we're binding these singletons are not be eager.
@@ -208,11 +273,13 @@ public final class InternalInjectorCreator {
       for (BindingImpl<?> binding : candidateBindings) {
         if (isEagerSingleton(injector, binding, stage)) {
           Dependency<?> dependency = Dependency.get(binding.getKey());
+          long startNanos = System.nanoTime();
           try {
             binding.getInternalFactory().get(context, dependency, false);
           } catch (InternalProvisionException e) {
             errors.withSource(dependency).merge(e);
           }
+          recorder.recordEagerSingleton(binding.getKey(), System.nanoTime() - startNanos);
         }
       }
     } finally {
@@ -230,8 +297,16 @@ public final class InternalInjectorCreator {
     // bindings. This only applies if the linked binding is not itself scoped.
     if (binding instanceof LinkedBindingImpl) {
       Key<?> linkedBinding = ((LinkedBindingImpl<?>) binding).getLinkedKey();
-      return binding.getScoping().isNoScope()
-          && isEagerSingleton(injector, injector.getBinding(linkedBinding), stage);
+      if (!binding.getScoping().isNoScope()) {
+        return false;
+      }
+      if (stage == Stage.LAZY) {
+        // Only explicit bindings are eager singletons in Stage.LAZY, so don't create a JIT binding
+        // for the target, which would validate it up front.
+        BindingImpl<?> target = injector.getExistingBinding(linkedBinding);
+        return target != null && isEagerSingleton(injector, target, stage);
+      }
+      return isEagerSingleton(injector, injector.getBinding(linkedBinding), stage);
     }
 
     return false;
@@ -245,6 +320,10 @@ public final class InternalInjectorCreator {
       this.delegateInjector = delegateInjector;
     }
 
+    Injector getDelegate() {
+      return delegateInjector;
+    }
+
     @Override
     public void injectMembers(Object o) {
       throw new UnsupportedOperationException(
@@ -316,6 +395,11 @@ public final class InternalInjectorCreator {
       return delegateInjector.getAllMembersInjectorInjectionPoints();
     }
 
+    @Override
+    public void close() {
+      this.delegateInjector.close();
+    }
+
     @Override
     public <T> Provider<T> getProvider(Key<T> key) {
       throw new UnsupportedOperationException(
@@ -346,6 +430,24 @@ public final class InternalInjectorCreator {
           "Injector.getInstance(Key<T>) is not supported in Stage.TOOL");
     }
 
+    @Override
+    public <T> CompletableFuture<T> getInstanceAsync(Key<T> key, Executor executor) {
+      throw new UnsupportedOperationException(
+          "Injector.getInstanceAsync(Key<T>, Executor) is not supported in Stage.TOOL");
+    }
+
+    @Override
+    public Instances getInstances(Key<?>... keys) {
+      throw new UnsupportedOperationException(
+          "Injector.getInstances(Key<?>...) is not supported in Stage.TOOL");
+    }
+
+    @Override
+    public Instances getInstances(Collection<? extends Key<?>> keys) {
+      throw new UnsupportedOperationException(
+          "Injector.getInstances(Collection<Key<?>>) is not supported in Stage.TOOL");
+    }
+
     @Override
     public <T> T getInstance(Class<T> type) {
       throw new UnsupportedOperationException(
@@ -6,6 +6,7 @@ import com.google.inject.Provider;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.HasDependencies;
 import com.google.inject.spi.InjectionPoint;
+import javax.annotation.Nullable;
 
 /**
  * A {@link ProviderInstanceBindingImpl} for implementing 'native' guice extensions.
@@ -54,10 +55,19 @@ final class InternalProviderInstanceBindingImpl<T> extends ProviderInstanceBindi
     return originalFactory.initializationTiming;
   }
 
+  /**
+   * Defers the initialization of this binding until it's first used, or found to be reachable from
+   * a root of the injector, see {@link com.google.inject.Stage#LAZY}.
+   */
+  void deferInitialization(DeferredInitializer initializer) {
+    originalFactory.deferredInitializer = initializer;
+  }
+
   @Override
   public void initialize(final InjectorImpl injector, final Errors errors) throws ErrorsException {
     originalFactory.source = getSource();
     originalFactory.provisionCallback = injector.provisionListenerStore.get(this);
+    originalFactory.provisionCounters = injector.provisionCounters.get(getKey());
     originalFactory.initialize(injector, errors);
     // Pass information so we can implement the provider protocol.
     originalFactory.injector = injector;
@@ -75,6 +85,8 @@ final class InternalProviderInstanceBindingImpl<T> extends ProviderInstanceBindi
     private InjectorImpl injector;
     private Dependency<?> dependency;
     ProvisionListenerStackCallback<T> provisionCallback;
+    ProvisionCounters provisionCounters;
+    private DeferredInitializer deferredInitializer;
 
     Factory(InitializationTiming initializationTiming) {
       this.initializationTiming = initializationTiming;
@@ -98,8 +110,20 @@ final class InternalProviderInstanceBindingImpl<T> extends ProviderInstanceBindi
      */
     abstract void initialize(InjectorImpl injector, Errors errors) throws ErrorsException;
 
+    /**
+     * Initializes the binding, if its initialization was deferred until it's first used by {@link
+     * com.google.inject.Stage#LAZY}.
+     */
+    final void initializeBeforeUse() {
+      DeferredInitializer deferred = deferredInitializer;
+      if (deferred != null) {
+        deferred.initializeBeforeUse();
+      }
+    }
+
     @Override
     public final T get() {
+      initializeBeforeUse();
       var local = injector;
       if (local == null) {
         throw new IllegalStateException(
@@ -116,8 +140,9 @@ final class InternalProviderInstanceBindingImpl<T> extends ProviderInstanceBindi
     @Override
     public T get(final InternalContext context, final Dependency<?> dependency, boolean linked)
         throws InternalProvisionException {
+      initializeBeforeUse();
       if (provisionCallback == null) {
-        return doProvision(context, dependency);
+        return countedProvision(context, dependency);
       } else {
         return provisionCallback.provision(context, dependency, this);
       }
@@ -125,9 +150,27 @@ final class InternalProviderInstanceBindingImpl<T> extends ProviderInstanceBindi
 
     // Implements ProvisionCallback<T>
     @Override
-    public final T call(InternalContext context, Dependency<?> dependency)
+    public final T call(
+        InternalContext context, Dependency<?> dependency, @Nullable Object unused)
+        throws InternalProvisionException {
+      return countedProvision(context, dependency);
+    }
+
+    private T countedProvision(InternalContext context, Dependency<?> dependency)
         throws InternalProvisionException {
-      return doProvision(context, dependency);
+      ProvisionCounters counters = provisionCounters;
+      if (counters == null) {
+        return doProvision(context, dependency);
+      }
+      long start = System.nanoTime();
+      boolean succeeded = false;
+      try {
+        T t = doProvision(context, dependency);
+        succeeded = true;
+        return t;
+      } finally {
+        counters.record(start, succeeded);
+      }
     }
 
     /**
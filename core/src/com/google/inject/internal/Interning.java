@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+
+/**
+ * Canonicalizes keys and type literals, if {@link InternalFlags#isKeyInterningEnabled enabled}.
+ *
+ * <p>Only instances of {@link Key} and {@link TypeLiteral} themselves are interned, never
+ * subclasses, which may hold references to their enclosing instances. Neither are keys with an
+ * instance of a marker annotation, which are equal to the keys without the instance but return it
+ * from {@link Key#getAnnotation}. The instances are held weakly, so interning doesn't keep the
+ * types of discarded injectors reachable.
+ */
+public final class Interning {
+
+  private static final boolean ENABLED = InternalFlags.isKeyInterningEnabled();
+
+  private static final Interner<Key<?>> KEYS = Interners.newWeakInterner();
+  private static final Interner<TypeLiteral<?>> TYPE_LITERALS = Interners.newWeakInterner();
+
+  private Interning() {}
+
+  /** Returns the canonical key equal to {@code key}, or {@code key} if interning is disabled. */
+  @SuppressWarnings("unchecked") // the canonical key is equal, and so of the same type
+  public static <T> Key<T> intern(Key<T> key) {
+    if (!ENABLED
+        || key.getClass() != Key.class
+        // Keys of marker annotations are equal with or without an annotation instance
+        || (key.getAnnotation() != null && !key.hasAttributes())) {
+      return key;
+    }
+    return (Key<T>) KEYS.intern(key);
+  }
+
+  /**
+   * Returns the canonical type literal equal to {@code typeLiteral}, or {@code typeLiteral} if
+   * interning is disabled.
+   */
+  @SuppressWarnings("unchecked") // the canonical type literal is equal, and so of the same type
+  public static <T> TypeLiteral<T> intern(TypeLiteral<T> typeLiteral) {
+    if (!ENABLED || typeLiteral.getClass() != TypeLiteral.class) {
+      return typeLiteral;
+    }
+    return (TypeLiteral<T>) TYPE_LITERALS.intern(typeLiteral);
+  }
+}
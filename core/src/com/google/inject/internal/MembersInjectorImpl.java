@@ -19,7 +19,9 @@ package com.google.inject.internal;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.MembersInjector;
+import com.google.inject.Stage;
 import com.google.inject.TypeLiteral;
+import com.google.inject.spi.Dependency;
 import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.InjectionPoint;
 import javax.annotation.Nullable;
@@ -29,7 +31,8 @@ import javax.annotation.Nullable;
  *
  * @author jessewilson@google.com (Jesse Wilson)
  */
-final class MembersInjectorImpl<T> implements MembersInjector<T> {
+final class MembersInjectorImpl<T>
+    implements MembersInjector<T>, ProvisionListenerStackCallback.ProvisionCallback<T> {
   private final TypeLiteral<T> typeLiteral;
   private final InjectorImpl injector;
   // a null list means empty. Since it is common for many of these lists to be empty we can save
@@ -84,13 +87,7 @@ final class MembersInjectorImpl<T> implements MembersInjector<T> {
       final boolean toolableOnly)
       throws InternalProvisionException {
     if (provisionCallback != null) {
-      provisionCallback.provision(
-          context,
-          /* dependency= */ null, // not used
-          (ctx, dep) -> {
-            injectMembers(instance, ctx, toolableOnly);
-            return instance;
-          });
+      provisionCallback.provision(context, /* dependency= */ null, this, instance);
     } else {
       injectMembers(instance, context, toolableOnly);
     }
@@ -108,6 +105,17 @@ final class MembersInjectorImpl<T> implements MembersInjector<T> {
     }
   }
 
+  // Implements ProvisionCallback<T>, with the instance as the argument
+  @Override
+  @SuppressWarnings("unchecked") // injectAndNotify always passes a T
+  public T call(InternalContext context, Dependency<?> dependency, Object instance)
+      throws InternalProvisionException {
+    // Only the Initializer injects with provision listeners, and it only injects the toolable
+    // members in Stage.TOOL.
+    injectMembers((T) instance, context, injector.options.stage == Stage.TOOL);
+    return (T) instance;
+  }
+
   void notifyListeners(T instance) throws InternalProvisionException {
     ImmutableList<InjectionListener<? super T>> localInjectionListeners = injectionListeners;
     if (localInjectionListeners == null) {
@@ -165,6 +173,11 @@ final class MembersInjectorImpl<T> implements MembersInjector<T> {
     return memberInjectors == null && userMembersInjectors == null && injectionListeners == null;
   }
 
+  /** Returns true if injecting members runs user supplied members injectors or listeners. */
+  boolean hasUserCallbacks() {
+    return userMembersInjectors != null || injectionListeners != null;
+  }
+
   @Override
   public String toString() {
     return "MembersInjector<" + typeLiteral + ">";
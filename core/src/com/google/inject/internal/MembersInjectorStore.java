@@ -28,9 +28,12 @@ import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.TypeListener;
 import com.google.inject.spi.TypeListenerBinding;
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Members injectors by type.
@@ -50,6 +53,13 @@ final class MembersInjectorStore {
         }
       };
 
+  /**
+   * The results of {@link #prescan}, either the injection points or the {@link
+   * ConfigurationException} of a type, consumed when the members injector for the type is created.
+   * Null unless bindings are being prepared by {@link ParallelBindingInitializer}.
+   */
+  private volatile ConcurrentMap<TypeLiteral<?>, Object> prescanned;
+
   MembersInjectorStore(InjectorImpl injector, List<TypeListenerBinding> typeListenerBindings) {
     this.injector = injector;
     this.typeListenerBindings = ImmutableList.copyOf(typeListenerBindings);
@@ -82,17 +92,72 @@ final class MembersInjectorStore {
     return cache.remove(type);
   }
 
+  /** Returns the members injectors created so far. */
+  Collection<MembersInjectorImpl<?>> getAll() {
+    return cache.asMap().values();
+  }
+
+  /** Purges all members injectors, when the injector is closed. */
+  void clear() {
+    cache.clear();
+  }
+
+  /** Starts keeping the results of {@link #prescan}, until {@link #stopPrescan}. */
+  void startPrescan() {
+    if (prescanned == null) {
+      prescanned = new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * Scans {@code type} for injectable members ahead of time, possibly on another thread, so that
+   * creating its members injector later doesn't have to. Returns the injection points that were
+   * found, possibly partial.
+   */
+  Set<InjectionPoint> prescan(TypeLiteral<?> type) {
+    ConcurrentMap<TypeLiteral<?>, Object> results = prescanned;
+    try {
+      Set<InjectionPoint> injectionPoints = InjectionPoint.forInstanceMethodsAndFields(type);
+      if (results != null) {
+        results.putIfAbsent(type, injectionPoints);
+      }
+      return injectionPoints;
+    } catch (ConfigurationException e) {
+      if (results != null) {
+        results.putIfAbsent(type, e);
+      }
+      return e.getPartialValue();
+    }
+  }
+
+  /** Drops the results of {@link #prescan} that haven't been used. */
+  void stopPrescan() {
+    prescanned = null;
+  }
+
   /** Creates a new members injector and attaches both injection listeners and method aspects. */
   private <T> MembersInjectorImpl<T> createWithListeners(TypeLiteral<T> type, Errors errors)
       throws ErrorsException {
     int numErrorsBefore = errors.size();
 
+    ConcurrentMap<TypeLiteral<?>, Object> results = prescanned;
+    Object prescan = results != null ? results.remove(type) : null;
     Set<InjectionPoint> injectionPoints;
-    try {
-      injectionPoints = InjectionPoint.forInstanceMethodsAndFields(type);
-    } catch (ConfigurationException e) {
-      errors.merge(e.getErrorMessages());
-      injectionPoints = e.getPartialValue();
+    if (prescan instanceof ConfigurationException) {
+      ConfigurationException prescannedFailure = (ConfigurationException) prescan;
+      errors.merge(prescannedFailure.getErrorMessages());
+      injectionPoints = prescannedFailure.getPartialValue();
+    } else if (prescan != null) {
+      @SuppressWarnings("unchecked") // only injection points and exceptions are prescanned
+      Set<InjectionPoint> prescannedInjectionPoints = (Set<InjectionPoint>) prescan;
+      injectionPoints = prescannedInjectionPoints;
+    } else {
+      try {
+        injectionPoints = InjectionPoint.forInstanceMethodsAndFields(type);
+      } catch (ConfigurationException e) {
+        errors.merge(e.getErrorMessages());
+        injectionPoints = e.getPartialValue();
+      }
     }
     ImmutableList<SingleMemberInjector> injectors = getInjectors(injectionPoints, errors);
     errors.throwIfNewErrors(numErrorsBefore);
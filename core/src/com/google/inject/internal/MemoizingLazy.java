@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Lazy;
+import com.google.inject.Provider;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * The {@link Lazy} injected by Guice. The instance is published with release/acquire semantics, so
+ * reading it once it's provisioned is a plain load on most platforms. The instance is provisioned
+ * while holding the lock of the {@code Lazy}, which threads only take while it isn't provisioned
+ * yet.
+ */
+final class MemoizingLazy<T> implements Lazy<T> {
+
+  private static final VarHandle INSTANCE;
+
+  static {
+    try {
+      INSTANCE =
+          MethodHandles.lookup().findVarHandle(MemoizingLazy.class, "instance", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /** Stands for a provisioned null, since null stands for an instance that isn't provisioned. */
+  private static final Object NULL = new Object();
+
+  private final Provider<T> provider;
+
+  /**
+   * The instance, {@link #NULL}, or null if it isn't provisioned yet. Null is the default value,
+   * so that a thread that sees this {@code Lazy} before it's safely published provisions under the
+   * lock instead of seeing an instance that isn't there.
+   */
+  @SuppressWarnings("unused") // accessed through INSTANCE
+  private Object instance;
+
+  MemoizingLazy(Provider<T> provider) {
+    this.provider = provider;
+  }
+
+  @Override
+  public T get() {
+    Object value = INSTANCE.getAcquire(this);
+    if (value == null) {
+      value = provision();
+    }
+    @SuppressWarnings("unchecked") // the instance was provided by the Provider<T>
+    T instance = value == NULL ? null : (T) value;
+    return instance;
+  }
+
+  private synchronized Object provision() {
+    Object value = INSTANCE.get(this);
+    if (value == null) {
+      T provided = provider.get();
+      value = provided == null ? NULL : provided;
+      INSTANCE.setRelease(this, value);
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "Lazy[" + provider + "]";
+  }
+}
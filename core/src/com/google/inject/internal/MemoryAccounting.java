@@ -0,0 +1,326 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.ElementSource;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectorMemoryReport;
+import com.google.inject.spi.InjectorMemoryReport.Category;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the heap retained by the metadata of an injector, for {@link InjectorMemoryReport}.
+ *
+ * <p>Objects of Guice and Guava classes are walked field by field. Collections and maps of the JDK
+ * are walked through their API, since their fields aren't accessible, and other JDK objects are
+ * counted without following their references. Objects of any other class are instances created by
+ * the injector, or user objects like modules and providers, and aren't counted.
+ */
+public final class MemoryAccounting {
+
+  // Sizes on a 64-bit JVM with compressed references
+  private static final int OBJECT_HEADER = 12;
+  private static final int ARRAY_HEADER = 16;
+  private static final int REFERENCE = 4;
+  private static final int ALIGNMENT = 8;
+  /** The overhead of an entry of a JDK hash map or set: the entry object and its table slot. */
+  private static final int HASH_ENTRY = 40;
+  /** The size of a reflective member, which copies the JVM's metadata into the heap. */
+  private static final int REFLECTIVE_MEMBER = 80;
+
+  private static final ClassValue<Layout> LAYOUTS =
+      new ClassValue<Layout>() {
+        @Override
+        protected Layout computeValue(Class<?> type) {
+          return new Layout(type);
+        }
+      };
+
+  private final Set<Object> visited = Sets.newIdentityHashSet();
+  private final ArrayDeque<Object> pending = new ArrayDeque<>();
+  private final Map<Category, Long> bytesByCategory = new EnumMap<>(Category.class);
+  private final Map<String, Long> bytesByModule = new HashMap<>();
+
+  private MemoryAccounting() {
+    for (Category category : Category.values()) {
+      bytesByCategory.put(category, 0L);
+    }
+  }
+
+  /** Returns the memory retained by the metadata of {@code injector}. */
+  public static InjectorMemoryReport report(Injector injector) {
+    if (injector instanceof InternalInjectorCreator.ToolStageInjector) {
+      injector = ((InternalInjectorCreator.ToolStageInjector) injector).getDelegate();
+    }
+    checkArgument(injector instanceof InjectorImpl, "Not created by Guice: %s", injector);
+    InjectorImpl injectorImpl = (InjectorImpl) injector;
+    MemoryAccounting accounting = new MemoryAccounting();
+    // Never count the injectors themselves, which every binding refers to
+    for (Injector ancestor = injector; ancestor != null; ancestor = ancestor.getParent()) {
+      accounting.visited.add(ancestor);
+    }
+
+    Collection<Binding<?>> explicitBindings = injectorImpl.getBindings().values();
+    List<BindingImpl<?>> jitBindings;
+    synchronized (injectorImpl.getJitBindingData().lock()) {
+      jitBindings =
+          ImmutableList.copyOf(injectorImpl.getJitBindingData().getJitBindings().values());
+    }
+    // Count what bindings share with the cached injectors first, then the cached injectors, and
+    // only then the bindings, so that each category keeps what it refers to.
+    for (Binding<?> binding : explicitBindings) {
+      accounting.addModuleBytes(binding, accounting.addSourceAndInjectionPoints(binding));
+    }
+    for (Binding<?> binding : jitBindings) {
+      accounting.addSourceAndInjectionPoints(binding);
+    }
+    for (MembersInjectorImpl<?> membersInjector : injectorImpl.membersInjectorStore.getAll()) {
+      accounting.add(Category.MEMBERS_INJECTORS, membersInjector);
+    }
+    for (ConstructorInjector<?> constructorInjector : injectorImpl.constructors.getAll()) {
+      accounting.add(Category.CONSTRUCTOR_INJECTORS, constructorInjector);
+    }
+    for (Binding<?> binding : explicitBindings) {
+      accounting.addModuleBytes(binding, accounting.add(Category.BINDINGS, binding));
+    }
+    for (Binding<?> binding : jitBindings) {
+      accounting.add(Category.JIT_BINDINGS, binding);
+    }
+
+    Map<String, Long> bytesByModule = new LinkedHashMap<>();
+    accounting.bytesByModule.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        .forEachOrdered(entry -> bytesByModule.put(entry.getKey(), entry.getValue()));
+    return new InjectorMemoryReport(
+        GuiceInternal.GUICE_INTERNAL, accounting.bytesByCategory, bytesByModule);
+  }
+
+  private void addModuleBytes(Binding<?> binding, long bytes) {
+    bytesByModule.merge(moduleOf(binding), bytes, Long::sum);
+  }
+
+  private static String moduleOf(Binding<?> binding) {
+    Object source = binding.getSource();
+    if (source instanceof ElementSource) {
+      List<String> moduleClassNames = ((ElementSource) source).getModuleClassNames();
+      if (!moduleClassNames.isEmpty()) {
+        return moduleClassNames.get(0);
+      }
+    }
+    return source == null ? "null" : source.getClass().getName();
+  }
+
+  /** Adds the source and the injection points of a binding. Returns the bytes added. */
+  private long addSourceAndInjectionPoints(Binding<?> binding) {
+    long bytes = add(Category.SOURCES, binding.getSource());
+    if (binding instanceof HasDependencies) {
+      for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+        bytes += add(Category.INJECTION_POINTS, dependency);
+      }
+    }
+    return bytes;
+  }
+
+  /** Adds the objects reachable from {@code root} that weren't counted yet. */
+  private long add(Category category, Object root) {
+    long bytes = 0;
+    push(root);
+    while (!pending.isEmpty()) {
+      bytes += sizeOf(pending.pop());
+    }
+    bytesByCategory.merge(category, bytes, Long::sum);
+    return bytes;
+  }
+
+  private void push(Object object) {
+    if (object != null && visited.add(object)) {
+      pending.push(object);
+    }
+  }
+
+  /** Returns the shallow size of {@code object}, and queues the objects it refers to. */
+  private long sizeOf(Object object) {
+    Class<?> type = object.getClass();
+    if (type.isArray()) {
+      int length = Array.getLength(object);
+      Class<?> componentType = type.getComponentType();
+      if (!componentType.isPrimitive()) {
+        for (Object element : (Object[]) object) {
+          push(element);
+        }
+      }
+      return align(ARRAY_HEADER + (long) length * sizeOfField(componentType));
+    }
+    if (object instanceof String) {
+      // The String and its byte array, assuming compact Latin-1 strings
+      return LAYOUTS.get(String.class).size + align(ARRAY_HEADER + ((String) object).length());
+    }
+    if (object instanceof Member) {
+      return REFLECTIVE_MEMBER;
+    }
+    if (object instanceof Class || object instanceof ClassLoader || object instanceof Thread) {
+      return 0;
+    }
+    Layout layout = LAYOUTS.get(type);
+    if (layout.kind == Layout.Kind.NOT_METADATA) {
+      return 0;
+    }
+    if (layout.kind == Layout.Kind.JDK) {
+      if (object instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) object;
+        for (Object entry : map.entrySet().toArray()) {
+          push(((Map.Entry<?, ?>) entry).getKey());
+          push(((Map.Entry<?, ?>) entry).getValue());
+        }
+        return layout.size + (long) map.size() * HASH_ENTRY;
+      }
+      if (object instanceof Collection) {
+        Collection<?> collection = (Collection<?>) object;
+        for (Object element : collection.toArray()) {
+          push(element);
+        }
+        return layout.size + (long) collection.size() * HASH_ENTRY;
+      }
+      return layout.size;
+    }
+    for (Field field : layout.references) {
+      try {
+        push(field.get(object));
+      } catch (IllegalAccessException e) {
+        throw new AssertionError(e); // the field was made accessible
+      }
+    }
+    return layout.size;
+  }
+
+  private static long align(long size) {
+    return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+  }
+
+  private static int sizeOfField(Class<?> type) {
+    if (type == long.class || type == double.class) {
+      return 8;
+    } else if (type == int.class || type == float.class) {
+      return 4;
+    } else if (type == short.class || type == char.class) {
+      return 2;
+    } else if (type == byte.class || type == boolean.class) {
+      return 1;
+    }
+    return REFERENCE;
+  }
+
+  /** The shallow size of the instances of a class, and the fields to follow. */
+  private static final class Layout {
+    enum Kind {
+      /** A Guice or Guava class, whose fields are followed. */
+      METADATA,
+      /** A JDK class, which is counted, but whose fields aren't followed. */
+      JDK,
+      /** Any other class. */
+      NOT_METADATA,
+    }
+
+    private static final String GUICE_LOCATION = locationOf(Injector.class);
+    private static final String GUAVA_LOCATION = locationOf(ImmutableList.class);
+
+    final Kind kind;
+    final long size;
+    final ImmutableList<Field> references;
+
+    Layout(Class<?> type) {
+      boolean jdk = type.getClassLoader() == null || type.getName().startsWith("java.");
+      boolean metadata = isGuiceOrGuava(type);
+      long size = OBJECT_HEADER;
+      ImmutableList.Builder<Field> references = ImmutableList.builder();
+      boolean accessible = true;
+      for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+        for (Field field : c.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())) {
+            continue;
+          }
+          size += sizeOfField(field.getType());
+          if (metadata && !field.getType().isPrimitive()) {
+            accessible &= trySetAccessible(field);
+            references.add(field);
+          }
+        }
+      }
+      this.size = align(size);
+      if (metadata && accessible) {
+        this.kind = Kind.METADATA;
+        this.references = references.build();
+      } else {
+        this.kind = jdk || metadata ? Kind.JDK : Kind.NOT_METADATA;
+        this.references = ImmutableList.of();
+      }
+    }
+
+    /**
+     * Returns true if {@code type} was loaded from the same location as Guice or Guava. Checking
+     * the package name alone would also walk user classes in com.google.inject packages.
+     */
+    private static boolean isGuiceOrGuava(Class<?> type) {
+      String location = locationOf(type);
+      if (location == null || GUICE_LOCATION == null) {
+        String name = type.getName();
+        return name.startsWith("com.google.inject.") || name.startsWith("com.google.common.");
+      }
+      return location.equals(GUICE_LOCATION) || location.equals(GUAVA_LOCATION);
+    }
+
+    private static String locationOf(Class<?> type) {
+      try {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        return codeSource == null || codeSource.getLocation() == null
+            ? null
+            : codeSource.getLocation().toString();
+      } catch (SecurityException e) {
+        return null;
+      }
+    }
+
+    private static boolean trySetAccessible(AccessibleObject object) {
+      try {
+        object.setAccessible(true);
+        return true;
+      } catch (RuntimeException e) {
+        return false;
+      }
+    }
+  }
+}
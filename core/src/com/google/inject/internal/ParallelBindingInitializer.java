@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.InjectionPoint;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the independent, side effect free parts of binding initialization on a fork-join pool
+ * before the bindings are initialized sequentially.
+ *
+ * <p>Initializing a binding means resolving (and possibly creating) the bindings it depends on,
+ * which happens under the JIT binding lock and reports errors in order, so the initialization
+ * itself stays on the injector creating thread, for the delayed bindings too. What is independent
+ * per binding is the reflective and bytecode generation work: scanning the type for {@code @Inject}
+ * members, generating the fast class used to invoke the constructor and injectable methods, and
+ * preparing the enhancer builder when interceptors are bound. Doing that work here means the
+ * sequential pass mostly hits warm caches. Scanning failures are kept and reported by the
+ * sequential pass, in the usual, deterministic, order, as if it had scanned the type itself.
+ *
+ * <p>Enabled with {@code -Dguice_parallel_binding_initialization=ENABLED}.
+ */
+final class ParallelBindingInitializer {
+
+  /** Don't bother forking for less work than this. */
+  private static final int BATCH_SIZE = 16;
+
+  /** The result of {@link #prepare}, to be released once the bindings are initialized. */
+  static final class Preparation {
+    private final Set<MembersInjectorStore> stores;
+    // Enhancer builders are only weakly cached, so hold on to them until they are used.
+    @SuppressWarnings("unused")
+    private final Object[] enhancerBuilders;
+
+    Preparation(Set<MembersInjectorStore> stores, Object[] enhancerBuilders) {
+      this.stores = stores;
+      this.enhancerBuilders = enhancerBuilders;
+    }
+
+    /** Drops any prepared state that initialization didn't consume. */
+    void release() {
+      for (MembersInjectorStore store : stores) {
+        store.stopPrescan();
+      }
+    }
+  }
+
+  /** The work for one type that's about to be constructor injected. */
+  private static final class Target {
+    final MembersInjectorStore store;
+    final TypeLiteral<?> type;
+    final InjectionPoint constructor; // null if it needs to be found
+    final boolean atInjectRequired;
+    final boolean hasInterceptors;
+
+    Target(InjectorImpl injector, TypeLiteral<?> type, InjectionPoint constructor) {
+      this.store = injector.membersInjectorStore;
+      this.type = type;
+      this.constructor = constructor;
+      this.atInjectRequired = injector.options.atInjectRequired;
+      this.hasInterceptors = !injector.getBindingData().getInterceptorBindings().isEmpty();
+    }
+  }
+
+  private ParallelBindingInitializer() {}
+
+  /**
+   * Prepares the given bindings, which are about to be initialized, using the common fork-join
+   * pool.
+   */
+  static Preparation prepare(List<BindingImpl<?>> bindings) {
+    List<Target> targets = new ArrayList<>();
+    Set<MembersInjectorStore> stores = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Object> seen = new HashSet<>();
+    for (BindingImpl<?> binding : bindings) {
+      InjectorImpl injector = binding.getInjector();
+      if (injector == null || injector.membersInjectorStore == null) {
+        continue;
+      }
+      Target target = null;
+      if (binding instanceof ConstructorBindingImpl) {
+        InjectionPoint constructor = ((ConstructorBindingImpl<?>) binding).getInternalConstructor();
+        target = new Target(injector, constructor.getDeclaringType(), constructor);
+      } else if (binding instanceof LinkedBindingImpl) {
+        // The target of a linked binding is typically an implementation that is about to get a
+        // just-in-time constructor binding.
+        Key<?> linkedKey = ((LinkedBindingImpl<?>) binding).getLinkedKey();
+        if (linkedKey.getAnnotationType() == null
+            && injector.getBindingData().getExplicitBinding(linkedKey) == null) {
+          target = new Target(injector, linkedKey.getTypeLiteral(), null);
+        }
+      }
+      if (target != null && seen.add(Arrays.asList(target.store, target.type))) {
+        targets.add(target);
+        if (stores.add(target.store)) {
+          target.store.startPrescan();
+        }
+      }
+    }
+
+    Object[] enhancerBuilders = new Object[targets.size()];
+    if (!targets.isEmpty()) {
+      ForkJoinPool.commonPool()
+          .invoke(new PrepareAction(targets, enhancerBuilders, 0, targets.size()));
+    }
+    return new Preparation(stores, enhancerBuilders);
+  }
+
+  private static final class PrepareAction extends RecursiveAction {
+    private final List<Target> targets;
+    private final Object[] enhancerBuilders;
+    private final int from;
+    private final int to;
+
+    PrepareAction(List<Target> targets, Object[] enhancerBuilders, int from, int to) {
+      this.targets = targets;
+      this.enhancerBuilders = enhancerBuilders;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= BATCH_SIZE) {
+        for (int i = from; i < to; i++) {
+          enhancerBuilders[i] = prepare(targets.get(i));
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new PrepareAction(targets, enhancerBuilders, from, middle),
+          new PrepareAction(targets, enhancerBuilders, middle, to));
+    }
+  }
+
+  /** Prepares a single target, returning its enhancer builder if one was prepared. */
+  private static Object prepare(Target target) {
+    Class<?> rawType = target.type.getRawType();
+    if (rawType.isInterface() || rawType.isArray() || rawType.isPrimitive()) {
+      return null;
+    }
+    Set<InjectionPoint> injectionPoints = target.store.prescan(target.type);
+    if (!InternalFlags.isBytecodeGenEnabled()) {
+      return null;
+    }
+    try {
+      for (InjectionPoint injectionPoint : injectionPoints) {
+        if (injectionPoint.getMember() instanceof Method) {
+          BytecodeGen.fastMethod((Method) injectionPoint.getMember());
+        }
+      }
+      InjectionPoint constructor =
+          target.constructor != null
+              ? target.constructor
+              : InjectionPoint.forConstructorOf(target.type, target.atInjectRequired);
+      BytecodeGen.fastConstructor((Constructor<?>) constructor.getMember());
+      return target.hasInterceptors ? BytecodeGen.enhancerBuilder(rawType) : null;
+    } catch (RuntimeException | LinkageError e) {
+      // reported (or handled) when the binding is initialized
+      return null;
+    }
+  }
+}
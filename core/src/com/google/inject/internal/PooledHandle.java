@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Pooled;
+import com.google.inject.Provider;
+
+/** The {@link Pooled} injected by Guice. Like the instances it checks out, it isn't thread-safe. */
+final class PooledHandle<T> implements Pooled<T> {
+
+  /** Provisions with the binding, so the pooled scope is entered like for any other injection. */
+  private final Provider<T> provider;
+
+  private final PooledScope.PooledProvider<T> pool;
+  private T instance;
+  private boolean checkedOut;
+
+  PooledHandle(Provider<T> provider, PooledScope.PooledProvider<T> pool) {
+    this.provider = provider;
+    this.pool = pool;
+  }
+
+  @Override
+  public T get() {
+    if (!checkedOut) {
+      instance = provider.get();
+      checkedOut = true;
+    }
+    return instance;
+  }
+
+  @Override
+  public void close() {
+    if (checkedOut) {
+      T checkedIn = instance;
+      instance = null;
+      checkedOut = false;
+      pool.checkIn(checkedIn);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "Pooled[" + provider + "]";
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps up to {@code maxSize} idle instances of each binding in a pool that {@link
+ * com.google.inject.Pooled} handles check instances out of and back in to. The pool is an array of
+ * slots that threads scan from a stripe of their own, taking and returning instances with a
+ * compare-and-set, so threads that use different slots don't contend and none of them locks.
+ */
+public final class PooledScope implements Scope {
+
+  private final int maxSize;
+
+  public PooledScope(int maxSize) {
+    checkArgument(maxSize > 0, "maxSize must be positive: %s", maxSize);
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+    return new PooledProvider<T>(this, unscoped);
+  }
+
+  @Override
+  public String toString() {
+    return "Scopes.pooled(" + maxSize + ")";
+  }
+
+  /**
+   * Provides an idle instance from the pool, or a new one if there is none. An instance is only
+   * returned to the pool by {@link #checkIn}.
+   */
+  static final class PooledProvider<T> implements Provider<T> {
+    private final PooledScope scope;
+    private final Provider<T> unscoped;
+    private final AtomicReferenceArray<T> slots;
+
+    PooledProvider(PooledScope scope, Provider<T> unscoped) {
+      this.scope = scope;
+      this.unscoped = unscoped;
+      this.slots = new AtomicReferenceArray<>(scope.maxSize);
+    }
+
+    @Override
+    public T get() {
+      int length = slots.length();
+      int start = stripe(length);
+      for (int i = 0; i < length; i++) {
+        int index = start + i < length ? start + i : start + i - length;
+        // Only attempt the compare-and-set on a slot that looks taken.
+        T instance = slots.get(index);
+        if (instance != null && slots.compareAndSet(index, instance, null)) {
+          return instance;
+        }
+      }
+      return unscoped.get();
+    }
+
+    /** Returns an instance to the pool, or drops it if the pool is full. */
+    void checkIn(T instance) {
+      if (instance == null || Scopes.isCircularProxy(instance)) {
+        return;
+      }
+      int length = slots.length();
+      int start = stripe(length);
+      for (int i = 0; i < length; i++) {
+        int index = start + i < length ? start + i : start + i - length;
+        if (slots.get(index) == null && slots.compareAndSet(index, null, instance)) {
+          return;
+        }
+      }
+    }
+
+    /** Returns the slot that the current thread starts scanning from. */
+    private static int stripe(int length) {
+      return Math.floorMod(System.identityHashCode(Thread.currentThread()) * 0x9E3779B9, length);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s[%s]", unscoped, scope);
+    }
+  }
+}
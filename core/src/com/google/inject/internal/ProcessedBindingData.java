@@ -17,7 +17,9 @@
 package com.google.inject.internal;
 
 import com.google.common.collect.Lists;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Keeps track of creation listeners and uninitialized bindings, so they can be processed after
@@ -30,6 +32,15 @@ class ProcessedBindingData {
   private final List<CreationListener> creationListeners = Lists.newArrayList();
   private final List<Runnable> uninitializedBindings = Lists.newArrayList();
   private final List<Runnable> delayedUninitializedBindings = Lists.newArrayList();
+  private final List<BindingImpl<?>> bindingsToPrepare = Lists.newArrayList();
+  private final List<BindingImpl<?>> delayedBindingsToPrepare = Lists.newArrayList();
+  private final Map<BindingImpl<?>, DeferredInitializer> deferredInitializers =
+      new IdentityHashMap<>();
+  private final InjectorCreationRecorder recorder;
+
+  ProcessedBindingData(InjectorCreationRecorder recorder) {
+    this.recorder = recorder;
+  }
 
   void addCreationListener(CreationListener listener) {
     creationListeners.add(listener);
@@ -39,14 +50,72 @@ class ProcessedBindingData {
     uninitializedBindings.add(runnable);
   }
 
-  void addDelayedUninitializedBinding(Runnable runnable) {
-    delayedUninitializedBindings.add(runnable);
+  /**
+   * Adds a binding that will be initialized by {@code runnable}, and that may be prepared ahead of
+   * time, see {@link ParallelBindingInitializer}.
+   */
+  void addUninitializedBinding(BindingImpl<?> binding, Runnable runnable) {
+    if (InternalFlags.isParallelBindingInitializationEnabled()) {
+      bindingsToPrepare.add(binding);
+    }
+    uninitializedBindings.add(timed(binding, runnable));
+  }
+
+  void addDelayedUninitializedBinding(BindingImpl<?> binding, Runnable runnable) {
+    if (InternalFlags.isParallelBindingInitializationEnabled()) {
+      delayedBindingsToPrepare.add(binding);
+    }
+    delayedUninitializedBindings.add(timed(binding, runnable));
+  }
+
+  /**
+   * Returns the initializer that runs {@code initialization} for {@code binding} when it's first
+   * used, or when found to be reachable from a root, see {@link ReachableBindingInitializer}.
+   */
+  DeferredInitializer deferInitialization(
+      BindingImpl<?> binding, DeferredInitializer.Initialization initialization) {
+    DeferredInitializer initializer =
+        new DeferredInitializer(binding.getInjector(), binding.getSource(), initialization);
+    deferredInitializers.put(binding, initializer);
+    return initializer;
+  }
+
+  Map<BindingImpl<?>, DeferredInitializer> getDeferredInitializers() {
+    return deferredInitializers;
+  }
+
+  /** Returns {@code runnable}, recording how long it takes to initialize {@code binding}. */
+  private Runnable timed(BindingImpl<?> binding, Runnable runnable) {
+    return () -> {
+      long startNanos = System.nanoTime();
+      runnable.run();
+      recorder.recordBindingInitialization(binding.getKey(), System.nanoTime() - startNanos);
+    };
   }
 
   /** Initialize bindings. This may be done eagerly */
   void initializeBindings() {
-    for (Runnable initializer : uninitializedBindings) {
-      initializer.run();
+    initialize(bindingsToPrepare, uninitializedBindings);
+  }
+
+  /** Runs {@code initializers}, after preparing {@code bindingsToPrepare} if there are any. */
+  private static void initialize(
+      List<BindingImpl<?>> bindingsToPrepare, List<Runnable> initializers) {
+    if (bindingsToPrepare.isEmpty()) {
+      for (Runnable initializer : initializers) {
+        initializer.run();
+      }
+      return;
+    }
+    ParallelBindingInitializer.Preparation preparation =
+        ParallelBindingInitializer.prepare(bindingsToPrepare);
+    bindingsToPrepare.clear();
+    try {
+      for (Runnable initializer : initializers) {
+        initializer.run();
+      }
+    } finally {
+      preparation.release();
     }
   }
 
@@ -67,8 +136,6 @@ class ProcessedBindingData {
    * for OptionalBinder bindings.
    */
   void initializeDelayedBindings() {
-    for (Runnable initializer : delayedUninitializedBindings) {
-      initializer.run();
-    }
+    initialize(delayedBindingsToPrepare, delayedUninitializedBindings);
   }
 }
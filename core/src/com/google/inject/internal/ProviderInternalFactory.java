@@ -27,16 +27,22 @@ import jakarta.inject.Provider;
  *
  * @author sameb@google.com (Sam Berlin)
  */
-abstract class ProviderInternalFactory<T> implements InternalFactory<T> {
+abstract class ProviderInternalFactory<T>
+    implements InternalFactory<T>, ProvisionListenerStackCallback.ProvisionCallback<T> {
 
   protected final Object source;
   private final int circularFactoryId;
+  @Nullable private ProvisionCounters provisionCounters;
 
   ProviderInternalFactory(Object source, int circularFactoryId) {
     this.source = checkNotNull(source, "source");
     this.circularFactoryId = circularFactoryId;
   }
 
+  void setProvisionCounters(@Nullable ProvisionCounters provisionCounters) {
+    this.provisionCounters = provisionCounters;
+  }
+
   protected T circularGet(
       final Provider<? extends T> provider,
       InternalContext context,
@@ -51,10 +57,35 @@ abstract class ProviderInternalFactory<T> implements InternalFactory<T> {
     }
     // Optimization: Don't go through the callback stack if no one's listening.
     if (provisionCallback == null) {
-      return provision(provider, context, dependency);
+      return countedProvision(provider, context, dependency);
     } else {
-      return provisionCallback.provision(
-          context, dependency, (ctx, dep) -> provision(provider, ctx, dep));
+      return provisionCallback.provision(context, dependency, this, provider);
+    }
+  }
+
+  // Implements ProvisionCallback<T>, with the provider as the argument
+  @Override
+  @SuppressWarnings("unchecked") // circularGet always passes a Provider<? extends T>
+  public final T call(InternalContext context, Dependency<?> dependency, Object provider)
+      throws InternalProvisionException {
+    return countedProvision((Provider<? extends T>) provider, context, dependency);
+  }
+
+  private T countedProvision(
+      Provider<? extends T> provider, InternalContext context, Dependency<?> dependency)
+      throws InternalProvisionException {
+    ProvisionCounters counters = provisionCounters;
+    if (counters == null) {
+      return provision(provider, context, dependency);
+    }
+    long start = System.nanoTime();
+    boolean succeeded = false;
+    try {
+      T t = provision(provider, context, dependency);
+      succeeded = true;
+      return t;
+    } finally {
+      counters.record(start, succeeded);
     }
   }
 
@@ -24,6 +24,7 @@ import com.google.inject.Key;
 import com.google.inject.PrivateBinder;
 import com.google.inject.Provides;
 import com.google.inject.internal.InternalProviderInstanceBindingImpl.InitializationTiming;
+import com.google.inject.internal.util.GuiceEvents;
 import com.google.inject.internal.util.StackTraceElements;
 import com.google.inject.spi.BindingTargetVisitor;
 import com.google.inject.spi.Dependency;
@@ -171,6 +172,7 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
   @Override
   public final T get(final InternalContext context, final Dependency<?> dependency, boolean linked)
       throws InternalProvisionException {
+    initializeBeforeUse();
     @SuppressWarnings("unchecked")
     T result = (T) context.tryStartConstruction(circularFactoryId, dependency);
     if (result != null) {
@@ -183,6 +185,7 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
   @Override
   protected T doProvision(InternalContext context, Dependency<?> dependency)
       throws InternalProvisionException {
+    Object event = GuiceEvents.beginProvision();
     T t = null;
     try {
       t = doProvision(SingleParameterInjector.getAll(context, parameterInjectors));
@@ -201,6 +204,7 @@ public abstract class ProviderMethod<T> extends InternalProviderInstanceBindingI
       throw InternalProvisionException.errorInProvider(unexpected).addSource(getSource());
     } finally {
       context.finishConstruction(circularFactoryId, t);
+      GuiceEvents.endProvision(event, getMethod());
     }
   }
 
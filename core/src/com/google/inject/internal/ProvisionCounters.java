@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.spi.ProvisionMetrics;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the provisions of a binding, see {@link InternalFlags.ProvisionMetricsOption}.
+ *
+ * <p>The counters are striped, so that threads provisioning the same binding concurrently don't
+ * contend on a single cache line, and recording a provision doesn't allocate. The counters are
+ * read independently, so a snapshot taken during a provision may be slightly inconsistent.
+ */
+final class ProvisionCounters {
+  private final LongAdder provisions = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+  private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+  /** Records a provision that started at {@code startNanos}, as returned by System.nanoTime. */
+  void record(long startNanos, boolean succeeded) {
+    long nanos = System.nanoTime() - startNanos;
+    provisions.increment();
+    if (!succeeded) {
+      failures.increment();
+    }
+    totalNanos.add(nanos);
+    maxNanos.accumulate(nanos);
+  }
+
+  ProvisionMetrics snapshot() {
+    return new ProvisionMetrics(
+        GuiceInternal.GUICE_INTERNAL,
+        provisions.sum(),
+        failures.sum(),
+        totalNanos.sum(),
+        maxNanos.get());
+  }
+}
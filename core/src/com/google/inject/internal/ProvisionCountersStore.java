@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.spi.ProvisionMetrics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/** {@link ProvisionCounters} for each key bound in an injector. */
+public final class ProvisionCountersStore {
+  private final ConcurrentMap<Key<?>, ProvisionCounters> counters = new ConcurrentHashMap<>();
+
+  ProvisionCountersStore() {}
+
+  /** Returns the provision metrics of the bindings of {@code injector}. */
+  public static ImmutableMap<Key<?>, ProvisionMetrics> snapshot(Injector injector) {
+    if (injector instanceof InternalInjectorCreator.ToolStageInjector) {
+      injector = ((InternalInjectorCreator.ToolStageInjector) injector).getDelegate();
+    }
+    checkArgument(injector instanceof InjectorImpl, "Not created by Guice: %s", injector);
+    return ((InjectorImpl) injector).provisionCounters.snapshot();
+  }
+
+  /**
+   * Returns the counters of the binding for {@code key}, or {@code null} if provision metrics
+   * aren't enabled. A binding that is recreated for the same key keeps counting in the same
+   * counters.
+   */
+  @Nullable
+  ProvisionCounters get(Key<?> key) {
+    if (!InternalFlags.isProvisionMetricsEnabled()) {
+      return null;
+    }
+    return counters.computeIfAbsent(key, k -> new ProvisionCounters());
+  }
+
+  /** Returns a snapshot of the counters of each binding that was provisioned at least once. */
+  ImmutableMap<Key<?>, ProvisionMetrics> snapshot() {
+    ImmutableMap.Builder<Key<?>, ProvisionMetrics> result = ImmutableMap.builder();
+    for (Map.Entry<Key<?>, ProvisionCounters> entry : counters.entrySet()) {
+      ProvisionMetrics metrics = entry.getValue().snapshot();
+      if (metrics.getProvisionCount() > 0) {
+        result.put(entry.getKey(), metrics);
+      }
+    }
+    return result.buildOrThrow();
+  }
+
+  void clear() {
+    counters.clear();
+  }
+}
@@ -89,6 +89,11 @@ final class ProvisionListenerCallbackStore {
     return cache.asMap().remove(type) != null;
   }
 
+  /** Purges all callbacks, when the injector is closed. */
+  void clear() {
+    cache.invalidateAll();
+  }
+
   /**
    * Creates a new {@link ProvisionListenerStackCallback} with the correct listeners for the key.
    */
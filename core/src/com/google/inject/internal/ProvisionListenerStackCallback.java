@@ -22,12 +22,20 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.inject.Binding;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.ProvisionListener;
+import com.google.inject.spi.SampledProvisionListener;
 import java.util.List;
 import java.util.Set;
+import javax.annotation.Nullable;
 
 /**
  * Intercepts provisions with a stack of listeners.
  *
+ * <p>Provisions that listeners see are dispatched through a {@link Provision} invocation borrowed
+ * from the {@link InternalContext}, one for each level of nested provisions, so that dispatching
+ * doesn't allocate once the context has warmed up. Listeners that are {@link
+ * SampledProvisionListener sampled} are skipped for the provisions they don't sample, and a
+ * provision that no listener samples calls the provision callback directly.
+ *
  * @author sameb@google.com (Sam Berlin)
  */
 final class ProvisionListenerStackCallback<T> {
@@ -39,6 +47,10 @@ final class ProvisionListenerStackCallback<T> {
       new ProvisionListenerStackCallback(null /* unused, so ok */, ImmutableList.of());
 
   private final ProvisionListener[] listeners;
+
+  /** The sampler of each listener, or null if none of the listeners are sampled. */
+  @Nullable private final SampledProvisionListener[] samplers;
+
   private final Binding<T> binding;
 
   @SuppressWarnings("unchecked")
@@ -50,9 +62,21 @@ final class ProvisionListenerStackCallback<T> {
     this.binding = binding;
     if (listeners.isEmpty()) {
       this.listeners = EMPTY_LISTENER;
+      this.samplers = null;
     } else {
       Set<ProvisionListener> deDuplicated = Sets.newLinkedHashSet(listeners);
       this.listeners = deDuplicated.toArray(new ProvisionListener[deDuplicated.size()]);
+      SampledProvisionListener[] samplers = null;
+      for (int i = 0; i < this.listeners.length; i++) {
+        if (this.listeners[i] instanceof SampledProvisionListener) {
+          if (samplers == null) {
+            samplers = new SampledProvisionListener[this.listeners.length];
+          }
+          samplers[i] = (SampledProvisionListener) this.listeners[i];
+          this.listeners[i] = samplers[i].getDelegate();
+        }
+      }
+      this.samplers = samplers;
     }
   }
 
@@ -64,69 +88,140 @@ final class ProvisionListenerStackCallback<T> {
   public T provision(
       InternalContext context, Dependency<?> dependency, ProvisionCallback<T> callable)
       throws InternalProvisionException {
-    Provision provision = new Provision(context, dependency, callable);
-    RuntimeException caught = null;
+    return provision(context, dependency, callable, null);
+  }
+
+  /**
+   * Provisions with the listeners, passing {@code argument} to the callback. Callbacks that need
+   * state for a single provision take it as the argument, rather than capturing it in a lambda.
+   */
+  @CanIgnoreReturnValue
+  public T provision(
+      InternalContext context,
+      Dependency<?> dependency,
+      ProvisionCallback<T> callable,
+      @Nullable Object argument)
+      throws InternalProvisionException {
+    int first = nextListener(0);
+    if (first == listeners.length) {
+      // No listener sampled this provision.
+      return callable.call(context, dependency, argument);
+    }
+    Provision<T> provision = context.pushProvision();
     try {
-      provision.provision();
-    } catch (RuntimeException t) {
-      caught = t;
+      provision.start(this, context, dependency, callable, argument, first);
+      RuntimeException caught = null;
+      try {
+        provision.provision();
+      } catch (RuntimeException t) {
+        caught = t;
+      }
+
+      if (provision.exceptionDuringProvision != null) {
+        throw provision.exceptionDuringProvision;
+      } else if (caught != null) {
+        Object listener =
+            provision.erredListener != null ? provision.erredListener.getClass() : "(unknown)";
+        throw InternalProvisionException.errorInUserCode(
+            ErrorId.OTHER,
+            caught,
+            "Error notifying ProvisionListener %s of %s.\n Reason: %s",
+            listener,
+            binding.getKey(),
+            caught);
+      } else {
+        return provision.result;
+      }
+    } finally {
+      provision.finish();
+      context.popProvision();
     }
+  }
 
-    if (provision.exceptionDuringProvision != null) {
-      throw provision.exceptionDuringProvision;
-    } else if (caught != null) {
-      Object listener =
-          provision.erredListener != null ? provision.erredListener.getClass() : "(unknown)";
-      throw InternalProvisionException.errorInUserCode(
-          ErrorId.OTHER,
-          caught,
-          "Error notifying ProvisionListener %s of %s.\n Reason: %s",
-          listener,
-          binding.getKey(),
-          caught);
-    } else {
-      return provision.result;
+  /** Returns the index of the first listener from {@code index} that samples this provision. */
+  private int nextListener(int index) {
+    if (samplers == null) {
+      return index;
+    }
+    while (index < listeners.length && samplers[index] != null && !samplers[index].sample()) {
+      index++;
     }
+    return index;
   }
 
   interface ProvisionCallback<T> {
-    T call(InternalContext context, Dependency<?> dependency) throws InternalProvisionException;
+    T call(InternalContext context, Dependency<?> dependency, @Nullable Object argument)
+        throws InternalProvisionException;
   }
 
-  private final class Provision extends ProvisionListener.ProvisionInvocation<T> {
-    final ProvisionCallback<T> callable;
-    final InternalContext context;
-    final Dependency<?> dependency;
-    int index = -1;
-    T result;
-    InternalProvisionException exceptionDuringProvision;
-    ProvisionListener erredListener;
-
-    Provision(InternalContext context, Dependency<?> dependency, ProvisionCallback<T> callable) {
+  /**
+   * An invocation of the listeners, reused by the provisions of an {@link InternalContext} at the
+   * same nesting level. It is only valid until the listeners it was passed to return.
+   */
+  static final class Provision<T> extends ProvisionListener.ProvisionInvocation<T> {
+    private ProvisionListenerStackCallback<T> callback;
+    private ProvisionCallback<T> callable;
+    private InternalContext context;
+    private Dependency<?> dependency;
+    private Object argument;
+    /** The index of the next listener to notify, or past the listeners once provisioned. */
+    private int index;
+    private T result;
+    private InternalProvisionException exceptionDuringProvision;
+    private ProvisionListener erredListener;
+
+    void start(
+        ProvisionListenerStackCallback<T> callback,
+        InternalContext context,
+        Dependency<?> dependency,
+        ProvisionCallback<T> callable,
+        Object argument,
+        int firstListener) {
+      this.callback = callback;
       this.context = context;
       this.dependency = dependency;
       this.callable = callable;
+      this.argument = argument;
+      this.index = firstListener;
+    }
+
+    /** Clears the references to the provision, so that the reused invocation doesn't leak. */
+    void finish() {
+      callback = null;
+      context = null;
+      dependency = null;
+      callable = null;
+      argument = null;
+      result = null;
+      exceptionDuringProvision = null;
+      erredListener = null;
     }
 
     @Override
     public T provision() {
-      index++;
-      if (index == listeners.length) {
+      if (callback == null) {
+        throw new IllegalStateException("The provision has already finished.");
+      }
+      ProvisionListener[] listeners = callback.listeners;
+      int currentIdx = index;
+      if (currentIdx == listeners.length) {
+        index = currentIdx + 1;
         try {
-          result = callable.call(context, dependency);
+          result = callable.call(context, dependency, argument);
         } catch (InternalProvisionException ipe) {
           exceptionDuringProvision = ipe;
           throw ipe.toProvisionException();
         }
-      } else if (index < listeners.length) {
-        int currentIdx = index;
+      } else if (currentIdx < listeners.length) {
+        int nextIdx = callback.nextListener(currentIdx + 1);
+        index = nextIdx;
         try {
-          listeners[index].onProvision(this);
+          listeners[currentIdx].onProvision(this);
         } catch (RuntimeException re) {
           erredListener = listeners[currentIdx];
           throw re;
         }
-        if (currentIdx == index) {
+        if (index == nextIdx) {
           // Our listener didn't provision -- do it for them.
           provision();
         }
@@ -141,7 +236,7 @@ final class ProvisionListenerStackCallback<T> {
       // TODO(sameb): Because so many places cast directly to BindingImpl & subclasses,
       // we can't decorate this to prevent calling getProvider().get(), which means
       // if someone calls that they'll get strange errors.
-      return binding;
+      return callback.binding;
     }
   }
 }
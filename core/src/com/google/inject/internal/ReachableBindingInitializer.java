@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Binding;
+import com.google.inject.ConfigurationException;
+import com.google.inject.Key;
+import com.google.inject.Stage;
+import com.google.inject.internal.InjectorImpl.JitLimitation;
+import com.google.inject.spi.DefaultElementVisitor;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.HasDependencies;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.InjectionRequest;
+import com.google.inject.spi.InstanceBinding;
+import com.google.inject.spi.MembersInjectorLookup;
+import com.google.inject.spi.ProviderInstanceBinding;
+import com.google.inject.spi.ProviderLookup;
+import com.google.inject.spi.StaticInjectionRequest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Initializes the bindings whose initialization was deferred in {@link Stage#LAZY}, by {@link
+ * ConstructorBindingImpl#deferInitialization} or with a {@link DeferredInitializer}, if they are
+ * reachable from a root of the injector being created.
+ * This reports the errors of everything that's used while creating the injector up front, while the
+ * remaining bindings are initialized when they are first used.
+ *
+ * <p>The roots are injection requests, provider and members injector lookups, eager singletons and
+ * instance bindings, whose instances are injected while creating the injector.
+ */
+final class ReachableBindingInitializer {
+
+  private final Map<BindingImpl<?>, DeferredInitializer> deferredInitializers;
+  private final Errors errors;
+  private final List<InjectorImpl> rootInjectors = new ArrayList<>();
+  private final List<Key<?>> rootKeys = new ArrayList<>();
+  private final Set<Binding<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final ArrayDeque<BindingImpl<?>> pending = new ArrayDeque<>();
+
+  private ReachableBindingInitializer(
+      Map<BindingImpl<?>, DeferredInitializer> deferredInitializers, Errors errors) {
+    this.deferredInitializers = deferredInitializers;
+    this.errors = errors;
+  }
+
+  /**
+   * Collects the roots of the injectors in {@code shells}. This must be called before the
+   * injection requests and lookups are processed.
+   */
+  static ReachableBindingInitializer collectRoots(
+      List<InjectorShell> shells,
+      Map<BindingImpl<?>, DeferredInitializer> deferredInitializers,
+      Errors errors) {
+    ReachableBindingInitializer initializer =
+        new ReachableBindingInitializer(deferredInitializers, errors);
+    for (InjectorShell shell : shells) {
+      InjectorImpl injector = shell.getInjector();
+      RootCollector collector = initializer.new RootCollector(injector);
+      for (Element element : shell.getElements()) {
+        element.acceptVisitor(collector);
+      }
+      for (Binding<?> binding : injector.getBindingData().getExplicitBindingsThisLevel().values()) {
+        if (((BindingImpl<?>) binding).getScoping().isEagerSingleton(Stage.LAZY)
+            || binding instanceof InstanceBinding
+            || (binding instanceof ProviderInstanceBinding
+                && !(binding instanceof InternalProviderInstanceBindingImpl))) {
+          initializer.addRoot(injector, binding.getKey());
+        }
+      }
+    }
+    return initializer;
+  }
+
+  /** Initializes every deferred binding reachable from the roots. */
+  void initializeReachableBindings() {
+    for (int i = 0; i < rootKeys.size(); i++) {
+      resolve(rootInjectors.get(i), rootKeys.get(i));
+    }
+    BindingImpl<?> binding;
+    while ((binding = pending.poll()) != null) {
+      if (binding instanceof ConstructorBindingImpl
+          && ((ConstructorBindingImpl<?>) binding).isInitializationDeferred()) {
+        try {
+          ((ConstructorBindingImpl<?>) binding)
+              .initializeIfDeferred(errors.withSource(binding.getSource()));
+        } catch (ErrorsException e) {
+          errors.merge(e.getErrors());
+          continue;
+        }
+      }
+      DeferredInitializer deferred = deferredInitializers.get(binding);
+      if (deferred != null) {
+        try {
+          deferred.initialize(errors.withSource(binding.getSource()));
+        } catch (ErrorsException e) {
+          errors.merge(e.getErrors());
+          continue;
+        }
+      }
+      if (binding instanceof ExposedBindingImpl) {
+        InjectorImpl privateInjector =
+            (InjectorImpl) ((ExposedBindingImpl<?>) binding).getPrivateElements().getInjector();
+        resolve(privateInjector, binding.getKey());
+      } else if (binding instanceof HasDependencies && binding.getInjector() != null) {
+        for (Dependency<?> dependency : ((HasDependencies) binding).getDependencies()) {
+          resolve(binding.getInjector(), dependency.getKey());
+        }
+      }
+    }
+  }
+
+  private void addRoot(InjectorImpl injector, Key<?> key) {
+    rootInjectors.add(injector);
+    rootKeys.add(key);
+  }
+
+  private void resolve(InjectorImpl injector, Key<?> key) {
+    BindingImpl<?> binding;
+    try {
+      binding = injector.getBindingOrThrow(key, new Errors(), JitLimitation.NEW_OR_EXISTING_JIT);
+    } catch (ErrorsException e) {
+      return; // reported when the root, or whatever depends on the key, is validated
+    }
+    if (visited.add(binding)) {
+      pending.add(binding);
+    }
+  }
+
+  private final class RootCollector extends DefaultElementVisitor<Void> {
+    private final InjectorImpl injector;
+
+    RootCollector(InjectorImpl injector) {
+      this.injector = injector;
+    }
+
+    @Override
+    public Void visit(InjectionRequest<?> request) {
+      try {
+        addInjectionPoints(request.getInjectionPoints());
+      } catch (ConfigurationException e) {
+        addInjectionPoints(e.getPartialValue());
+      }
+      return null;
+    }
+
+    @Override
+    public Void visit(StaticInjectionRequest request) {
+      try {
+        addInjectionPoints(request.getInjectionPoints());
+      } catch (ConfigurationException e) {
+        addInjectionPoints(e.getPartialValue());
+      }
+      return null;
+    }
+
+    @Override
+    public <T> Void visit(ProviderLookup<T> lookup) {
+      addRoot(injector, lookup.getDependency().getKey());
+      return null;
+    }
+
+    @Override
+    public <T> Void visit(MembersInjectorLookup<T> lookup) {
+      try {
+        addInjectionPoints(InjectionPoint.forInstanceMethodsAndFields(lookup.getType()));
+      } catch (ConfigurationException e) {
+        addInjectionPoints(e.getPartialValue());
+      }
+      return null;
+    }
+
+    private void addInjectionPoints(Set<InjectionPoint> injectionPoints) {
+      if (injectionPoints == null) {
+        return;
+      }
+      for (Dependency<?> dependency : Dependency.forInjectionPoints(injectionPoints)) {
+        addRoot(injector, dependency.getKey());
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.Scope;
+import com.google.inject.Scopes;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Caches the first instance that a binding provides, without locking. Threads that provision the
+ * binding before it's cached may each create an instance, and then they all return the first
+ * instance that was cached. Circular proxies are never cached.
+ */
+public final class ReusableScope implements Scope {
+
+  /** A sentinel value representing null. */
+  private static final Object NULL = new Object();
+
+  @Override
+  public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+    return new ReusableProvider<T>(unscoped);
+  }
+
+  @Override
+  public String toString() {
+    return "Scopes.REUSABLE";
+  }
+
+  private static final class ReusableProvider<T> implements Provider<T> {
+    private static final VarHandle INSTANCE;
+
+    static {
+      try {
+        INSTANCE =
+            MethodHandles.lookup()
+                .findVarHandle(ReusableProvider.class, "instance", Object.class);
+      } catch (ReflectiveOperationException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+
+    private final Provider<T> unscoped;
+
+    /** The cached instance, {@link #NULL}, or null if no instance is cached yet. */
+    @SuppressWarnings("unused") // accessed through INSTANCE
+    private Object instance;
+
+    ReusableProvider(Provider<T> unscoped) {
+      this.unscoped = unscoped;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked") // the instance was provided by the Provider<T>
+    public T get() {
+      Object cached = INSTANCE.getAcquire(this);
+      if (cached == null) {
+        T provided = unscoped.get();
+        if (Scopes.isCircularProxy(provided)) {
+          return provided;
+        }
+        Object value = provided == null ? NULL : provided;
+        Object witness = INSTANCE.compareAndExchangeRelease(this, null, value);
+        cached = witness == null ? value : witness;
+      }
+      return cached == NULL ? null : (T) cached;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s[%s]", unscoped, Scopes.REUSABLE);
+    }
+  }
+}
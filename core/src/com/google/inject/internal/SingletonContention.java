@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Provider;
+import com.google.inject.spi.SingletonContentionMetrics;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long threads waited for the creation lock of a singleton, for {@link
+ * SingletonContentionMetrics}. A lock only has one once a thread had to wait for it, so that
+ * singletons that are never contended don't pay for it.
+ */
+public final class SingletonContention {
+
+  private final LongAdder contendedAcquisitions = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+  /** The number of waits by power of two buckets: bucket {@code i} is below {@code 2^i} nanos. */
+  private final AtomicLongArray waitHistogram = new AtomicLongArray(Long.SIZE);
+
+  private volatile long creationNanos = -1;
+
+  SingletonContention() {}
+
+  void recordWait(long nanos) {
+    contendedAcquisitions.increment();
+    totalWaitNanos.add(nanos);
+    maxWaitNanos.accumulate(nanos);
+    waitHistogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(nanos));
+  }
+
+  void recordCreation(long nanos) {
+    creationNanos = nanos;
+  }
+
+  SingletonContentionMetrics snapshot() {
+    ImmutableSortedMap.Builder<Long, Long> histogram = ImmutableSortedMap.naturalOrder();
+    for (int i = 0; i < waitHistogram.length(); i++) {
+      long count = waitHistogram.get(i);
+      if (count > 0) {
+        histogram.put(i == Long.SIZE - 1 ? Long.MAX_VALUE : 1L << i, count);
+      }
+    }
+    return new SingletonContentionMetrics(
+        GuiceInternal.GUICE_INTERNAL,
+        contendedAcquisitions.sum(),
+        totalWaitNanos.sum(),
+        maxWaitNanos.get(),
+        histogram.buildOrThrow(),
+        creationNanos);
+  }
+
+  /** Returns the contention of the singleton lock of {@code binding}, if it was contended. */
+  public static Optional<SingletonContentionMetrics> of(Binding<?> binding) {
+    if (binding instanceof BindingImpl) {
+      InternalFactory<?> factory = ((BindingImpl<?>) binding).getInternalFactory();
+      if (factory instanceof InternalFactoryToScopedProviderAdapter) {
+        Provider<?> provider = ((InternalFactoryToScopedProviderAdapter<?>) factory).getProvider();
+        if (provider instanceof SingletonScope.SingletonProvider) {
+          SingletonContention contention =
+              ((SingletonScope.SingletonProvider<?>) provider).getContention();
+          if (contention != null) {
+            return Optional.of(contention.snapshot());
+          }
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /** Returns the contention of the singleton locks of the bindings of {@code injector}. */
+  public static ImmutableMap<Key<?>, SingletonContentionMetrics> snapshot(Injector injector) {
+    if (injector instanceof InternalInjectorCreator.ToolStageInjector) {
+      injector = ((InternalInjectorCreator.ToolStageInjector) injector).getDelegate();
+    }
+    checkArgument(injector instanceof InjectorImpl, "Not created by Guice: %s", injector);
+    ImmutableMap.Builder<Key<?>, SingletonContentionMetrics> result = ImmutableMap.builder();
+    for (Map.Entry<Key<?>, Binding<?>> entry : injector.getAllBindings().entrySet()) {
+      of(entry.getValue()).ifPresent(metrics -> result.put(entry.getKey(), metrics));
+    }
+    return result.buildOrThrow();
+  }
+}
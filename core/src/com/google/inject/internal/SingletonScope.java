@@ -77,6 +77,12 @@ public class SingletonScope implements Scope {
   private static final CycleDetectingLockFactory<Key<?>> cycleDetectingLockFactory =
       new CycleDetectingLockFactory<Key<?>>();
 
+  /** A provider of a singleton, which exposes the contention on its creation lock. */
+  interface SingletonProvider<T> extends Provider<T> {
+    @Nullable
+    SingletonContention getContention();
+  }
+
   /**
    * Provides singleton scope with the following properties:
    *
@@ -97,7 +103,7 @@ public class SingletonScope implements Scope {
   @Override
   public <T> Provider<T> scope(final Key<T> key, final Provider<T> creator) {
     /** Locking strategy: */
-    return new Provider<T>() {
+    return new SingletonProvider<T>() {
       /**
        * The lazily initialized singleton instance. Once set, this will either have type T or will
        * be equal to NULL. Would never be reset to null.
@@ -176,8 +182,14 @@ public class SingletonScope implements Scope {
               if (instance == null) {
                 // creator throwing an exception can cause circular proxies created in
                 // different thread to never be resolved, just a warning
+                long start = System.nanoTime();
                 T provided = creator.get();
                 Object providedNotNull = provided == null ? NULL : provided;
+                SingletonContention contention = creationLock.getContention();
+                if (contention != null) {
+                  // other threads waited for this creation
+                  contention.recordCreation(System.nanoTime() - start);
+                }
 
                 // scope called recursively can initialize instance as a side effect
                 if (instance == null) {
@@ -270,6 +282,12 @@ public class SingletonScope implements Scope {
         }
       }
 
+      @Override
+      @Nullable
+      public SingletonContention getContention() {
+        return creationLock.getContention();
+      }
+
       /**
        * Helper method to create beautiful and rich error descriptions. Best effort and slow. Tries
        * its best to provide dependency information from injectors currently available in a global
@@ -55,7 +55,9 @@ final class WeakKeySet {
 
   private void cleanupOnRemoval(
       RemovalNotification<InjectorBindingData, Set<KeyAndSource>> notification) {
-    Preconditions.checkState(RemovalCause.COLLECTED.equals(notification.getCause()));
+    Preconditions.checkState(
+        RemovalCause.COLLECTED.equals(notification.getCause())
+            || RemovalCause.EXPLICIT.equals(notification.getCause()));
 
     // There may be multiple child injectors banning a certain key so only remove the source
     // that's relevant.
@@ -98,12 +100,23 @@ final class WeakKeySet {
     }
   }
 
+  /** Removes the keys added for {@code state}, before it's garbage collected. */
+  public void removeAll(InjectorBindingData state) {
+    evictionCache.invalidate(state);
+  }
+
   public boolean contains(Key<?> key) {
+    if (backingMap == null) {
+      return false; // nothing was ever added, so there's nothing to evict
+    }
     evictionCache.cleanUp();
-    return backingMap != null && backingMap.containsKey(key);
+    return backingMap.containsKey(key);
   }
 
   public Set<Object> getSources(Key<?> key) {
+    if (backingMap == null) {
+      return null;
+    }
     evictionCache.cleanUp();
     Multiset<Object> sources = (backingMap == null) ? null : backingMap.get(key);
     return (sources == null) ? null : sources.elementSet();
@@ -23,6 +23,7 @@ import static java.lang.reflect.Modifier.FINAL;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.internal.BytecodeGen;
+import com.google.inject.internal.util.GuiceEvents;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.BitSet;
@@ -104,6 +105,11 @@ final class EnhancerBuilderImpl implements BytecodeGen.EnhancerBuilder {
       glueMap.put(signature(method), method);
     }
 
-    return new Enhancer(hostClass, bridgeDelegates).glue(glueMap);
+    Object event = GuiceEvents.beginClassGeneration();
+    try {
+      return new Enhancer(hostClass, bridgeDelegates).glue(glueMap);
+    } finally {
+      GuiceEvents.endClassGeneration(event, hostClass, "enhancer");
+    }
   }
 }
@@ -17,8 +17,12 @@
 package com.google.inject.internal.util;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import com.google.common.base.Stopwatch;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -31,6 +35,10 @@ import javax.annotation.concurrent.NotThreadSafe;
 public final class ContinuousStopwatch {
   private final Logger logger = Logger.getLogger(ContinuousStopwatch.class.getName());
   private final Stopwatch stopwatch;
+  /** The flight recorder event of the current phase, or null if it isn't being recorded. */
+  private Object phaseEvent;
+  /** The elapsed time of each labeled phase, in the order they first ended. */
+  private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
 
   /**
    * Constructs a ContinuousStopwatch, which will start timing immediately after construction.
@@ -47,11 +55,22 @@ public final class ContinuousStopwatch {
     long elapsedTimeMs = stopwatch.elapsed(MILLISECONDS);
     stopwatch.reset();
     stopwatch.start();
+    phaseEvent = GuiceEvents.beginInjectorCreationPhase();
     return elapsedTimeMs;
   }
 
-  /** Resets and logs elapsed time in milliseconds. */
+  /**
+   * Resets and logs elapsed time in milliseconds, and emits a flight recorder event for the phase
+   * that ended. The elapsed time is added to the time of the earlier phases with the same label.
+   */
   public void resetAndLog(String label) {
+    GuiceEvents.endInjectorCreationPhase(phaseEvent, label);
+    phaseNanos.merge(label, stopwatch.elapsed(NANOSECONDS), Long::sum);
     logger.fine(label + ": " + reset() + "ms");
   }
+
+  /** Returns the elapsed time of each phase logged so far, in nanoseconds. */
+  public Map<String, Long> getPhaseNanos() {
+    return Collections.unmodifiableMap(phaseNanos);
+  }
 }
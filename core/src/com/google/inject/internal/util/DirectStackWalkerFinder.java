@@ -1,5 +1,8 @@
 package com.google.inject.internal.util;
 
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 
 /** A CallerFinder directly compiled against StackWalker. Requires compiling against jdk11+. */
@@ -7,11 +10,60 @@ final class DirectStackWalkerFinder implements CallerFinder {
   private static final StackWalker WALKER =
       StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
+  /**
+   * The callers found so far. Converting a frame to a StackTraceElement is the expensive part of
+   * finding a caller, and modules tend to call the binder from the same few call sites many times.
+   * Sharing the elements also lets equal sources be compared by identity. Cleared with the other
+   * caches in {@link StackTraceElements#clearCache}, once the elements are recorded.
+   */
+  private static final ConcurrentMap<CallSite, StackTraceElement> CALLERS =
+      new ConcurrentHashMap<>();
+
+  /** Clears the callers found so far. */
+  static void clearCache() {
+    CALLERS.clear();
+  }
+
   @Override
   public StackTraceElement findCaller(Predicate<String> shouldBeSkipped) {
-    return WALKER
-        .walk(s -> s.skip(2).filter(f -> !shouldBeSkipped.test(f.getClassName())).findFirst())
-        .map(StackWalker.StackFrame::toStackTraceElement)
-        .orElseThrow(AssertionError::new);
+    StackWalker.StackFrame frame =
+        WALKER
+            .walk(s -> s.skip(2).filter(f -> !shouldBeSkipped.test(f.getClassName())).findFirst())
+            .orElseThrow(AssertionError::new);
+    return CALLERS.computeIfAbsent(new CallSite(frame), unused -> frame.toStackTraceElement());
+  }
+
+  /** A bytecode position within a method of a class. */
+  private static final class CallSite {
+    // The name rather than the class, so the cache doesn't keep the class loader alive.
+    final String className;
+    final String methodName;
+    final MethodType methodType;
+    final int byteCodeIndex;
+
+    CallSite(StackWalker.StackFrame frame) {
+      this.className = frame.getClassName();
+      this.methodName = frame.getMethodName();
+      this.methodType = frame.getMethodType();
+      this.byteCodeIndex = frame.getByteCodeIndex();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof CallSite)) {
+        return false;
+      }
+      CallSite other = (CallSite) obj;
+      return byteCodeIndex == other.byteCodeIndex
+          && methodName.equals(other.methodName)
+          && className.equals(other.className)
+          && methodType.equals(other.methodType);
+    }
+
+    @Override
+    public int hashCode() {
+      return ((31 * className.hashCode() + methodName.hashCode()) * 31 + methodType.hashCode()) * 31
+          + byteCodeIndex;
+    }
   }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.util;
+
+import com.google.inject.Key;
+
+/**
+ * Emits Java Flight Recorder events, see {@link GuiceJfrEvents}.
+ *
+ * <p>Each {@code begin} method returns an event, or null if the event isn't enabled in any
+ * recording, and the matching {@code end} method ignores null events. The events are typed as
+ * {@code Object} so that callers don't refer to the {@code jdk.jfr} module, which may be missing
+ * from the runtime image; then every event is disabled.
+ */
+public final class GuiceEvents {
+
+  private static final boolean AVAILABLE =
+      ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+  private GuiceEvents() {}
+
+  /** Begins a phase of injector creation. */
+  public static Object beginInjectorCreationPhase() {
+    return AVAILABLE ? GuiceJfrEvents.beginInjectorCreationPhase() : null;
+  }
+
+  public static void endInjectorCreationPhase(Object event, String phase) {
+    if (event != null) {
+      GuiceJfrEvents.endInjectorCreationPhase(event, phase);
+    }
+  }
+
+  /** Begins creating a just-in-time binding. */
+  public static Object beginJitBinding() {
+    return AVAILABLE ? GuiceJfrEvents.beginJitBinding() : null;
+  }
+
+  public static void endJitBinding(Object event, Key<?> key) {
+    if (event != null) {
+      GuiceJfrEvents.endJitBinding(event, key);
+    }
+  }
+
+  /** Begins generating an enhanced subclass or a fast class for {@code hostClass}. */
+  public static Object beginClassGeneration() {
+    return AVAILABLE ? GuiceJfrEvents.beginClassGeneration() : null;
+  }
+
+  public static void endClassGeneration(Object event, Class<?> hostClass, String kind) {
+    if (event != null) {
+      GuiceJfrEvents.endClassGeneration(event, hostClass, kind);
+    }
+  }
+
+  /** Begins provisioning an instance, with a constructor or a provider method. */
+  public static Object beginProvision() {
+    return AVAILABLE ? GuiceJfrEvents.beginProvision() : null;
+  }
+
+  public static void endProvision(Object event, Object source) {
+    if (event != null) {
+      GuiceJfrEvents.endProvision(event, source);
+    }
+  }
+}
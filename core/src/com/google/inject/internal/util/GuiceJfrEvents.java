@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.util;
+
+import com.google.inject.Key;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The Java Flight Recorder events of Guice. Only {@link GuiceEvents} refers to this class, once it
+ * checked that the {@code jdk.jfr} module is present.
+ *
+ * <p>An event that isn't enabled in any recording is never committed, and its allocation is
+ * usually eliminated by the JIT compiler, so the events cost next to nothing when no recording is
+ * running.
+ */
+final class GuiceJfrEvents {
+
+  private GuiceJfrEvents() {}
+
+  @Name("com.google.inject.InjectorCreationPhase")
+  @Label("Injector Creation Phase")
+  @Category({"Guice", "Injector Creation"})
+  @Description("A phase of creating an injector, as logged by InternalInjectorCreator")
+  @StackTrace(false)
+  static final class InjectorCreationPhaseEvent extends Event {
+    @Label("Phase")
+    String phase;
+  }
+
+  @Name("com.google.inject.JitBinding")
+  @Label("Just-In-Time Binding")
+  @Category({"Guice", "Bindings"})
+  @Description("Creating a just-in-time binding, including the bindings it depends on")
+  static final class JitBindingEvent extends Event {
+    @Label("Key")
+    String key;
+  }
+
+  @Name("com.google.inject.ClassGeneration")
+  @Label("Class Generation")
+  @Category({"Guice", "Bytecode Generation"})
+  @Description("Generating an enhanced subclass for method interception, or a fast class")
+  static final class ClassGenerationEvent extends Event {
+    @Label("Host Class")
+    Class<?> hostClass;
+
+    @Label("Kind")
+    String kind;
+  }
+
+  @Name("com.google.inject.Provision")
+  @Label("Provision")
+  @Category({"Guice", "Provisioning"})
+  @Description(
+      "Provisioning an instance with its constructor or a provider method, including its"
+          + " dependencies. By default only provisions that take at least 1 ms are recorded.")
+  @Threshold("1 ms")
+  @StackTrace(false)
+  static final class ProvisionEvent extends Event {
+    @Label("Source")
+    String source;
+  }
+
+  static Object beginInjectorCreationPhase() {
+    InjectorCreationPhaseEvent event = new InjectorCreationPhaseEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  static void endInjectorCreationPhase(Object object, String phase) {
+    InjectorCreationPhaseEvent event = (InjectorCreationPhaseEvent) object;
+    event.end();
+    if (event.shouldCommit()) {
+      event.phase = phase;
+      event.commit();
+    }
+  }
+
+  static Object beginJitBinding() {
+    JitBindingEvent event = new JitBindingEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  static void endJitBinding(Object object, Key<?> key) {
+    JitBindingEvent event = (JitBindingEvent) object;
+    event.end();
+    if (event.shouldCommit()) {
+      event.key = key.toString();
+      event.commit();
+    }
+  }
+
+  static Object beginClassGeneration() {
+    ClassGenerationEvent event = new ClassGenerationEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  static void endClassGeneration(Object object, Class<?> hostClass, String kind) {
+    ClassGenerationEvent event = (ClassGenerationEvent) object;
+    event.end();
+    if (event.shouldCommit()) {
+      event.hostClass = hostClass;
+      event.kind = kind;
+      event.commit();
+    }
+  }
+
+  static Object beginProvision() {
+    ProvisionEvent event = new ProvisionEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  static void endProvision(Object object, Object source) {
+    ProvisionEvent event = (ProvisionEvent) object;
+    event.end();
+    // Only provisions over the threshold are committed, so they're the only ones to pay for this
+    if (event.shouldCommit()) {
+      event.source = String.valueOf(source);
+      event.commit();
+    }
+  }
+}
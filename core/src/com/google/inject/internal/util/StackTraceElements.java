@@ -84,6 +84,7 @@ public final class StackTraceElements {
   public static void clearCache() {
     elementCache.clear();
     stringCache.clear();
+    DirectStackWalkerFinder.clearCache();
   }
 
   /** Returns encoded in-memory version of {@link StackTraceElement StackTraceElements}. */
@@ -274,8 +274,7 @@ public final class BindingSourceRestriction {
       }
     }
 
-    final Map<ModuleSource, ImmutableSet<Class<? extends Annotation>>> modulePermits =
-        new HashMap<>();
+    Map<ModuleSource, ImmutableSet<Class<? extends Annotation>>> modulePermits = new HashMap<>();
     // Maintains the permits on the current module installation path.
     ImmutableSet<Class<? extends Annotation>> currentModulePermits = ImmutableSet.of();
     // Stack tracking the currentModulePermits during module traversal.
@@ -325,6 +324,16 @@ public final class BindingSourceRestriction {
       currentModulePermits = modulePermitsStack.pop();
     }
 
+    /**
+     * Merges the permits of this construction into {@code target}, with which it shares its permits
+     * from now on. Called by the Binder when merging modules that were recorded separately.
+     */
+    void mergeInto(PermitMapConstruction target) {
+      target.modulePermits.putAll(modulePermits);
+      modulePermits = target.modulePermits;
+      permitMap.modulePermits = modulePermits;
+    }
+
     /** Finishes the {@link PermitMap}. Called by the Binder when all modules are installed. */
     void finish() {
       permitMap.modulePermits = modulePermits;
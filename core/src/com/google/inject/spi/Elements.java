@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.inject.internal.InternalFlags.getIncludeStackTraceOption;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
@@ -37,6 +38,7 @@ import com.google.inject.PrivateModule;
 import com.google.inject.Provider;
 import com.google.inject.Scope;
 import com.google.inject.Stage;
+import com.google.inject.ThreadSafeModule;
 import com.google.inject.TypeLiteral;
 import com.google.inject.binder.AnnotatedBindingBuilder;
 import com.google.inject.binder.AnnotatedConstantBindingBuilder;
@@ -61,12 +63,15 @@ import com.google.inject.multibindings.Multibinder;
 import com.google.inject.multibindings.OptionalBinder;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import org.aopalliance.intercept.MethodInterceptor;
 
 /**
@@ -108,9 +113,41 @@ public final class Elements {
 
   /** Records the elements executed by {@code modules}. */
   public static List<Element> getElements(Stage stage, Iterable<? extends Module> modules) {
-    RecordingBinder binder = new RecordingBinder(stage);
+    return getElements(stage, modules, null);
+  }
+
+  /**
+   * Records the elements executed by {@code modules}, and adds the time spent configuring each
+   * module class to {@code configureNanos}. The time of a module doesn't include the modules it
+   * installs, so that the times add up to the time of recording the elements.
+   *
+   * @since 7.1
+   */
+  public static List<Element> getElements(
+      GuiceInternal guiceInternal,
+      Stage stage,
+      Iterable<? extends Module> modules,
+      Map<Class<? extends Module>, Long> configureNanos) {
+    checkNotNull(guiceInternal);
+    return getElements(stage, modules, new ModuleTimer(checkNotNull(configureNanos)));
+  }
+
+  private static List<Element> getElements(
+      Stage stage, Iterable<? extends Module> modules, ModuleTimer timer) {
+    RecordingBinder binder = new RecordingBinder(stage, timer);
+    Map<Module, ModuleRecording> recordings = recordThreadSafeModules(stage, modules, timer);
+    binder.recordingInParallel = !recordings.isEmpty();
     for (Module module : modules) {
-      binder.install(module);
+      ModuleRecording recording = recordings.get(module);
+      if (recording == null) {
+        binder.install(module);
+      } else {
+        binder.merge(recording.join());
+      }
+    }
+    for (ModuleRecording recording : recordings.values()) {
+      // Private binders created by the recording inherit scanners from all modules.
+      recording.binder.inheritScanners(binder);
     }
     binder.scanForAnnotatedMethods();
     for (RecordingBinder child : binder.privateBindersForScanning) {
@@ -122,6 +159,107 @@ public final class Elements {
     return Collections.unmodifiableList(binder.elements);
   }
 
+  /**
+   * Starts recording the {@link ThreadSafeModule thread-safe} modules in {@code modules} on the
+   * common fork-join pool, each into its own binder. Returns the recordings by module.
+   */
+  private static Map<Module, ModuleRecording> recordThreadSafeModules(
+      Stage stage, Iterable<? extends Module> modules, ModuleTimer timer) {
+    if (Iterables.size(modules) < 2) {
+      return ImmutableMap.of();
+    }
+    Map<Module, ModuleRecording> recordings = Maps.newHashMap();
+    for (Module module : modules) {
+      if (module.getClass().isAnnotationPresent(ThreadSafeModule.class)
+          && !recordings.containsKey(module)) {
+        RecordingBinder binder =
+            new RecordingBinder(
+                stage, timer == null ? null : new ModuleTimer(Maps.newLinkedHashMap()));
+        binder.installs = new ArrayList<>();
+        binder.recordingInParallel = true;
+        ModuleRecording recording = new ModuleRecording(module, binder);
+        ForkJoinPool.commonPool().execute(recording);
+        recordings.put(module, recording);
+      }
+    }
+    return recordings;
+  }
+
+  /** Records the elements of a single module into a binder of its own. */
+  private static final class ModuleRecording extends RecursiveTask<RecordingBinder> {
+    private final Module module;
+    private final RecordingBinder binder;
+
+    ModuleRecording(Module module, RecordingBinder binder) {
+      this.module = module;
+      this.binder = binder;
+    }
+
+    @Override
+    protected RecordingBinder compute() {
+      binder.install(module);
+      return binder;
+    }
+  }
+
+  /**
+   * A module installed by a binder that records a thread-safe module, with the range of elements,
+   * scanners and private binders that installing it added, and the range of the installs nested in
+   * it.
+   */
+  private static final class Install {
+    final Module module;
+    final int elementsStart;
+    final int scannersStart;
+    final int privateBindersStart;
+    int elementsEnd;
+    int scannersEnd;
+    int privateBindersEnd;
+    /** One past the index of the last install nested in this one. */
+    int installsEnd;
+
+    Install(Module module, int elementsStart, int scannersStart, int privateBindersStart) {
+      this.module = module;
+      this.elementsStart = elementsStart;
+      this.scannersStart = scannersStart;
+      this.privateBindersStart = privateBindersStart;
+    }
+  }
+
+  /** Measures the time spent configuring each module class, excluding the modules it installs. */
+  private static final class ModuleTimer {
+    private final Map<Class<? extends Module>, Long> configureNanos;
+    /** The sum of the times recorded so far. */
+    private long recordedNanos;
+
+    ModuleTimer(Map<Class<? extends Module>, Long> configureNanos) {
+      this.configureNanos = configureNanos;
+    }
+
+    /** Starts timing a module, and returns the mark to pass to {@link #stop}. */
+    long start(Class<? extends Module> moduleClass) {
+      // Keep the modules in the order they were installed.
+      configureNanos.putIfAbsent(moduleClass, 0L);
+      return System.nanoTime() - recordedNanos;
+    }
+
+    /**
+     * Records the time elapsed since {@code mark}, minus the times recorded for the modules
+     * installed meanwhile.
+     */
+    void stop(Class<? extends Module> moduleClass, long mark) {
+      long nanos = System.nanoTime() - recordedNanos - mark;
+      configureNanos.merge(moduleClass, nanos, Long::sum);
+      recordedNanos += nanos;
+    }
+
+    void mergeInto(ModuleTimer timer) {
+      for (Map.Entry<Class<? extends Module>, Long> entry : configureNanos.entrySet()) {
+        timer.configureNanos.merge(entry.getKey(), entry.getValue(), Long::sum);
+      }
+    }
+  }
+
   // TODO(user): Consider moving the RecordingBinder to com.google.inject.internal and removing these
   // internal 'friend' methods.
   /**
@@ -212,6 +350,21 @@ public final class Elements {
     private final List<RecordingBinder> privateBindersForScanning;
 
     private final BindingSourceRestriction.PermitMapConstruction permitMapConstruction;
+    /** Times the modules installed in this binder, or null if they aren't timed. */
+    private final ModuleTimer moduleTimer;
+
+    /**
+     * The modules installed in this binder in installation order, if it records a thread-safe
+     * module so that it can be merged without the modules that turn out to be installed already.
+     * Null otherwise, and in private binders.
+     */
+    private List<Install> installs;
+
+    /**
+     * Whether other binders may be recording modules on other threads at the same time, in which
+     * case a module instance they install too mustn't be configured concurrently.
+     */
+    private boolean recordingInParallel;
 
     /** The current modules stack */
     private ModuleSource moduleSource = null;
@@ -227,7 +380,13 @@ public final class Elements {
     private ModuleAnnotatedMethodScanner currentScanner = null;
     private boolean trustedSource = false;
 
-    private RecordingBinder(Stage stage) {
+    /**
+     * The last element source created by this binder for a call site, which is reused while the
+     * module and the call site stay the same, as when a module binds many keys from a loop.
+     */
+    private ElementSource lastElementSource = null;
+
+    private RecordingBinder(Stage stage, ModuleTimer moduleTimer) {
       this.stage = stage;
       this.modules = Maps.newLinkedHashMap();
       this.scanners = Sets.newLinkedHashSet();
@@ -238,6 +397,7 @@ public final class Elements {
       this.privateElements = null;
       this.privateBindersForScanning = Lists.newArrayList();
       this.permitMapConstruction = new BindingSourceRestriction.PermitMapConstruction();
+      this.moduleTimer = moduleTimer;
     }
 
     /** Creates a recording binder that's backed by {@code prototype}. */
@@ -261,7 +421,10 @@ public final class Elements {
       this.privateElements = prototype.privateElements;
       this.privateBindersForScanning = prototype.privateBindersForScanning;
       this.permitMapConstruction = prototype.permitMapConstruction;
+      this.moduleTimer = prototype.moduleTimer;
       this.scannerSource = prototype.scannerSource;
+      this.installs = prototype.installs;
+      this.recordingInParallel = prototype.recordingInParallel;
     }
 
     /** Creates a private recording binder. */
@@ -278,7 +441,9 @@ public final class Elements {
       this.privateElements = privateElements;
       this.privateBindersForScanning = parent.privateBindersForScanning;
       this.permitMapConstruction = parent.permitMapConstruction;
+      this.moduleTimer = parent.moduleTimer;
       this.scannerSource = parent.scannerSource;
+      this.recordingInParallel = parent.recordingInParallel;
     }
 
     @Override
@@ -371,17 +536,71 @@ public final class Elements {
               addError(e);
             }
           }
+          if (moduleSource != null) {
+            moduleSource.finishRecording();
+          }
         }
       }
       moduleSource = null;
     }
 
+    /**
+     * Appends everything {@code recorded} recorded to this binder, as if its modules had been
+     * installed here. The modules that are already installed here are skipped, together with what
+     * they recorded and the modules they installed, like a duplicate installation would be.
+     */
+    void merge(RecordingBinder recorded) {
+      List<ModuleAnnotatedMethodScanner> recordedScanners = new ArrayList<>(recorded.scanners);
+      int elementsFrom = 0;
+      int scannersFrom = 0;
+      int privateBindersFrom = 0;
+      int i = 0;
+      while (i < recorded.installs.size()) {
+        Install install = recorded.installs.get(i);
+        if (!modules.containsKey(install.module)) {
+          modules.put(install.module, recorded.modules.get(install.module));
+          i++;
+          continue;
+        }
+        elements.addAll(recorded.elements.subList(elementsFrom, install.elementsStart));
+        scanners.addAll(recordedScanners.subList(scannersFrom, install.scannersStart));
+        privateBindersForScanning.addAll(
+            recorded.privateBindersForScanning.subList(
+                privateBindersFrom, install.privateBindersStart));
+        elementsFrom = install.elementsEnd;
+        scannersFrom = install.scannersEnd;
+        privateBindersFrom = install.privateBindersEnd;
+        i = install.installsEnd;
+      }
+      elements.addAll(recorded.elements.subList(elementsFrom, recorded.elements.size()));
+      scanners.addAll(recordedScanners.subList(scannersFrom, recordedScanners.size()));
+      privateBindersForScanning.addAll(
+          recorded.privateBindersForScanning.subList(
+              privateBindersFrom, recorded.privateBindersForScanning.size()));
+      recorded.permitMapConstruction.mergeInto(permitMapConstruction);
+      if (moduleTimer != null) {
+        recorded.moduleTimer.mergeInto(moduleTimer);
+      }
+    }
+
+    /** Makes the private binders created by this binder see the scanners of {@code binder}. */
+    void inheritScanners(RecordingBinder binder) {
+      scanners.clear();
+      scanners.addAll(binder.scanners);
+    }
+
     @Override
     public void install(Module module) {
       // Ignore duplicate installations of the same module instance.
       if (modules.containsKey(module)) {
         return;
       }
+      Install install = null;
+      if (installs != null) {
+        install =
+            new Install(module, elements.size(), scanners.size(), privateBindersForScanning.size());
+        installs.add(install);
+      }
       // Whether the module installed is a ProviderMethodModule for a custom scanner.
       boolean customScanner = false;
       Class<?> newModuleClass = null;
@@ -422,8 +641,19 @@ public final class Elements {
       // Always store this in the parent binder (even if it was a private module)
       // so that we know not to process it again, and so that scanners inherit down.
       modules.put(module, new ModuleInfo(moduleSource, skipScanning));
+      // Provider methods are timed as part of their module.
+      ModuleTimer timer = module instanceof ProviderMethodsModule ? null : moduleTimer;
+      long timerMark = timer == null ? 0 : timer.start(module.getClass());
       try {
-        module.configure(binder);
+        if (recordingInParallel) {
+          // A module instance installed by more than one module, like a constant, may be
+          // installed by another binder concurrently. Configure it on one thread at a time.
+          synchronized (module) {
+            module.configure(binder);
+          }
+        } else {
+          module.configure(binder);
+        }
       } catch (RuntimeException e) {
         Collection<Message> messages = Errors.getMessagesFromThrowable(e);
         if (!messages.isEmpty()) {
@@ -433,8 +663,18 @@ public final class Elements {
         }
       }
       binder.install(ProviderMethodsModule.forModule(module));
+      if (timer != null) {
+        timer.stop(module.getClass(), timerMark);
+      }
+      if (install != null) {
+        install.elementsEnd = elements.size();
+        install.scannersEnd = scanners.size();
+        install.privateBindersEnd = privateBindersForScanning.size();
+        install.installsEnd = installs.size();
+      }
       // We are done with this module, so undo module source change
       if (newModuleClass != null) {
+        moduleSource.finishRecording();
         moduleSource = moduleSource.getParent();
         permitMapConstruction.popModule();
       }
@@ -664,16 +904,20 @@ public final class Elements {
         originalSource = (ElementSource) declaringSource;
         declaringSource = originalSource.getDeclaringSource();
       }
+      boolean fromCallSite = false;
       if (declaringSource == null) {
         IncludeStackTraceOption stackTraceOption = getIncludeStackTraceOption();
         if (stackTraceOption == IncludeStackTraceOption.ONLY_FOR_DECLARING_SOURCE) {
           StackTraceElement callingSource = sourceProvider.getCaller();
+          fromCallSite = true;
           // If we've traversed past all reasonable sources and into our internal code, then we
           // don't know the source.
-          if (callingSource
-                  .getClassName()
-                  .equals("com.google.inject.internal.InjectorShell$Builder")
-              && callingSource.getMethodName().equals("build")) {
+          if ((callingSource
+                      .getClassName()
+                      .equals("com.google.inject.internal.InjectorShell$Builder")
+                  && callingSource.getMethodName().equals("build"))
+              || (callingSource.getClassName().equals(ModuleRecording.class.getName())
+                  && callingSource.getMethodName().equals("compute"))) {
             declaringSource = SourceProvider.UNKNOWN_SOURCE;
           } else {
             declaringSource = callingSource;
@@ -683,9 +927,24 @@ public final class Elements {
           declaringSource = sourceProvider.getFromClassNames(moduleSource.getModuleClassNames());
         }
       }
+      if (!fromCallSite) {
+        // Only elements from the same call site share their source. Messages with equal sources
+        // are reported once.
+        return new ElementSource(
+            originalSource, trustedSource, declaringSource, moduleSource, scannerSource);
+      }
+      ElementSource last = lastElementSource;
+      if (last != null
+          && last.declaringSource == declaringSource
+          && last.moduleSource == moduleSource
+          && last.scanner == scannerSource) {
+        return last;
+      }
       // Build the binding call stack
-      return new ElementSource(
-          originalSource, trustedSource, declaringSource, moduleSource, scannerSource);
+      lastElementSource =
+          new ElementSource(
+              originalSource, trustedSource, declaringSource, moduleSource, scannerSource);
+      return lastElementSource;
     }
 
     /** Returns if the binder is in the module scanning phase. */
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Module;
+import com.google.inject.internal.GuiceInternal;
+import com.google.inject.internal.InjectorCreationRecorder;
+import java.time.Duration;
+
+/**
+ * How long it took to create an injector, and where that time went. This is meant to track
+ * startup time, for example to fail a test or to alert when creating an injector gets slower.
+ *
+ * <p>The report holds the time of each phase of creation, in order, of configuring each module,
+ * and of the slowest binding initializations and eager singletons. The report of a child injector
+ * only covers creating the child.
+ *
+ * @since 7.1
+ */
+public final class InjectorCreationReport {
+
+  private final Duration totalDuration;
+  private final ImmutableMap<String, Duration> phaseDurations;
+  private final ImmutableMap<Class<? extends Module>, Duration> moduleConfigureDurations;
+  private final ImmutableMap<Key<?>, Duration> slowestBindingInitializations;
+  private final ImmutableMap<Key<?>, Duration> slowestEagerSingletons;
+
+  /**
+   * Returns the report of creating {@code injector}.
+   *
+   * @throws IllegalStateException if the injector is still being created, such as when an eager
+   *     singleton asks for the report of its own injector
+   */
+  public static InjectorCreationReport of(Injector injector) {
+    return InjectorCreationRecorder.getReport(checkNotNull(injector, "injector"));
+  }
+
+  public InjectorCreationReport(
+      GuiceInternal internalOnly,
+      Duration totalDuration,
+      ImmutableMap<String, Duration> phaseDurations,
+      ImmutableMap<Class<? extends Module>, Duration> moduleConfigureDurations,
+      ImmutableMap<Key<?>, Duration> slowestBindingInitializations,
+      ImmutableMap<Key<?>, Duration> slowestEagerSingletons) {
+    checkNotNull(internalOnly);
+    this.totalDuration = checkNotNull(totalDuration);
+    this.phaseDurations = checkNotNull(phaseDurations);
+    this.moduleConfigureDurations = checkNotNull(moduleConfigureDurations);
+    this.slowestBindingInitializations = checkNotNull(slowestBindingInitializations);
+    this.slowestEagerSingletons = checkNotNull(slowestEagerSingletons);
+  }
+
+  /** Returns the time it took to create the injector. */
+  public Duration getTotalDuration() {
+    return totalDuration;
+  }
+
+  /**
+   * Returns the time of each phase of creating the injector, in the order they ran. Phases that
+   * ran once per private environment are added up.
+   */
+  public ImmutableMap<String, Duration> getPhaseDurations() {
+    return phaseDurations;
+  }
+
+  /**
+   * Returns the time spent configuring each module class, in the order they were installed. The
+   * time of a module doesn't include the modules it installs, and the time of a module class that
+   * was installed several times is added up.
+   */
+  public ImmutableMap<Class<? extends Module>, Duration> getModuleConfigureDurations() {
+    return moduleConfigureDurations;
+  }
+
+  /**
+   * Returns the bindings that took the longest to initialize, such as resolving the dependencies
+   * of a constructor, slowest first. At most 20 bindings are reported.
+   */
+  public ImmutableMap<Key<?>, Duration> getSlowestBindingInitializations() {
+    return slowestBindingInitializations;
+  }
+
+  /**
+   * Returns the eager singletons that took the longest to create while creating the injector,
+   * slowest first. At most 20 singletons are reported. In {@link com.google.inject.Stage#PRODUCTION
+   * production}, every singleton is eager.
+   */
+  public ImmutableMap<Key<?>, Duration> getSlowestEagerSingletons() {
+    return slowestEagerSingletons;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(InjectorCreationReport.class)
+        .add("totalDuration", totalDuration)
+        .add("phaseDurations", phaseDurations)
+        .add("moduleConfigureDurations", moduleConfigureDurations)
+        .add("slowestBindingInitializations", slowestBindingInitializations)
+        .add("slowestEagerSingletons", slowestEagerSingletons)
+        .toString();
+  }
+}
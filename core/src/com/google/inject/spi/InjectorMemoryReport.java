@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Injector;
+import com.google.inject.internal.GuiceInternal;
+import com.google.inject.internal.MemoryAccounting;
+import java.util.Map;
+
+/**
+ * The approximate heap retained by the metadata of an injector, by category and by module. This
+ * covers what Guice keeps to create instances, such as bindings, their sources and the cached
+ * members injectors, but not the instances themselves, nor the metadata of the parent injector.
+ *
+ * <p>Sizes are estimated by walking the objects reachable from the metadata, assuming a 64-bit JVM
+ * with compressed references. Each object is counted once, even if several categories refer to it.
+ * Sources, injection points and cached injectors are counted in their own categories, not with the
+ * bindings that use them. Generated classes live outside the heap and aren't counted.
+ *
+ * <p>This is intended for finding the biggest consumers, not for exact accounting. Walking the
+ * metadata takes time proportional to its size, so avoid calling this on hot paths.
+ *
+ * @since 7.1
+ */
+public final class InjectorMemoryReport {
+
+  /** What the retained memory is used for. */
+  public enum Category {
+    /** Explicit bindings, including their keys, scoping and internal factories. */
+    BINDINGS,
+    /** The {@link ElementSource sources} of bindings, including recorded stack traces. */
+    SOURCES,
+    /** The injection points and dependencies of bindings. */
+    INJECTION_POINTS,
+    /** Just-in-time bindings. */
+    JIT_BINDINGS,
+    /** Members injectors cached for the types that the injector injected. */
+    MEMBERS_INJECTORS,
+    /** Constructor injectors cached for the types that the injector constructed. */
+    CONSTRUCTOR_INJECTORS,
+  }
+
+  private final ImmutableMap<Category, Long> bytesByCategory;
+  private final ImmutableMap<String, Long> bytesByModule;
+
+  /** Returns the memory retained by the metadata of {@code injector}. */
+  public static InjectorMemoryReport of(Injector injector) {
+    return MemoryAccounting.report(checkNotNull(injector, "injector"));
+  }
+
+  public InjectorMemoryReport(
+      GuiceInternal internalOnly,
+      Map<Category, Long> bytesByCategory,
+      Map<String, Long> bytesByModule) {
+    checkNotNull(internalOnly);
+    this.bytesByCategory = ImmutableMap.copyOf(bytesByCategory);
+    this.bytesByModule = ImmutableMap.copyOf(bytesByModule);
+  }
+
+  /** Returns the approximate number of bytes retained by the injector's metadata. */
+  public long getTotalBytes() {
+    return bytesByCategory.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /** Returns the approximate number of bytes retained in each category. */
+  public ImmutableMap<Category, Long> getBytesByCategory() {
+    return bytesByCategory;
+  }
+
+  /**
+   * Returns the approximate number of bytes retained by the explicit bindings of each module,
+   * including their sources and injection points but not the cached injectors, by the class name of
+   * the module that installed them. Bindings without an {@link ElementSource} are reported under
+   * their source's class name. The modules are ordered by decreasing size.
+   */
+  public ImmutableMap<String, Long> getBytesByModule() {
+    return bytesByModule;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder();
+    result.append(String.format("Injector metadata: %,d bytes%n", getTotalBytes()));
+    for (Map.Entry<Category, Long> entry : bytesByCategory.entrySet()) {
+      result.append(String.format("  %s: %,d bytes%n", entry.getKey(), entry.getValue()));
+    }
+    result.append(String.format("By module:%n"));
+    for (Map.Entry<String, Long> entry : bytesByModule.entrySet()) {
+      result.append(String.format("  %s: %,d bytes%n", entry.getKey(), entry.getValue()));
+    }
+    return result.toString();
+  }
+}
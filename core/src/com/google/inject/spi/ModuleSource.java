@@ -19,7 +19,9 @@ package com.google.inject.spi;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Module;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
@@ -44,6 +46,13 @@ final class ModuleSource {
    */
   private final BindingSourceRestriction.PermitMap permitMap;
 
+  /**
+   * The children created so far, by module class name, so that modules of the same class installed
+   * by this module share their {@link ModuleSource}. Only used by the binder recording this module,
+   * and dropped once the module is configured.
+   */
+  private Map<String, ModuleSource> children;
+
   /**
    * Creates a new {@link ModuleSource} with a {@literal null} parent.
    *
@@ -82,12 +91,22 @@ final class ModuleSource {
   }
 
   /**
-   * Creates and returns a child {@link ModuleSource} corresponding to the {@link Module module}.
+   * Returns a child {@link ModuleSource} corresponding to the {@link Module module}. Modules of the
+   * same class get the same child.
    *
    * @param moduleClass the corresponding module
    */
   ModuleSource createChild(Class<?> moduleClass) {
-    return new ModuleSource(this, moduleClass, permitMap);
+    if (children == null) {
+      children = new HashMap<>();
+    }
+    return children.computeIfAbsent(
+        moduleClass.getName(), unused -> new ModuleSource(this, moduleClass, permitMap));
+  }
+
+  /** Drops the children created so far, once the module is configured. */
+  void finishRecording() {
+    children = null;
   }
 
   /** Returns the parent module {@link ModuleSource source}. */
@@ -42,12 +42,18 @@ public interface ProvisionListener {
    * <p>To perform the provision, call {@link ProvisionInvocation#provision()}. If you do not
    * explicitly call provision, it will be automatically done after this method returns. It is an
    * error to call provision more than once.
+   *
+   * <p>To only see a fraction of the provisions, for example to profile provisioning, bind a
+   * {@link SampledProvisionListener}.
    */
   <T> void onProvision(ProvisionInvocation<T> provision);
 
   /**
    * Encapsulates a single act of provisioning.
    *
+   * <p>An invocation is only valid while the listener it was passed to runs. Guice reuses
+   * invocations for later provisions, so listeners must not keep references to them.
+   *
    * @since 4.0
    */
   public abstract static class ProvisionInvocation<T> {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.internal.GuiceInternal;
+import com.google.inject.internal.ProvisionCountersStore;
+
+/**
+ * A snapshot of the provisions of a binding: how many instances it created, how many provisions
+ * failed, and how long they took. Provisions are counted by the bindings that create instances,
+ * such as constructor bindings, provider bindings and provider methods, not by the linked bindings
+ * or scopes that lead to them. Their time includes provisioning their dependencies, but not
+ * notifying {@link ProvisionListener}s.
+ *
+ * <p>Provisions are only counted when the {@code guice_provision_metrics} system property is set
+ * to {@code ENABLED}; otherwise {@link #snapshot} returns no metrics. Counting a provision doesn't
+ * allocate, so a metrics exporter can read the snapshots periodically at little cost.
+ *
+ * @since 7.1
+ */
+public final class ProvisionMetrics {
+
+  private final long provisionCount;
+  private final long failureCount;
+  private final long totalNanos;
+  private final long maxNanos;
+
+  /**
+   * Returns the metrics of each binding of {@code injector} that was provisioned at least once.
+   * This doesn't include the bindings of the injector's parent.
+   */
+  public static ImmutableMap<Key<?>, ProvisionMetrics> snapshot(Injector injector) {
+    return ProvisionCountersStore.snapshot(checkNotNull(injector, "injector"));
+  }
+
+  public ProvisionMetrics(
+      GuiceInternal internalOnly,
+      long provisionCount,
+      long failureCount,
+      long totalNanos,
+      long maxNanos) {
+    checkNotNull(internalOnly);
+    this.provisionCount = provisionCount;
+    this.failureCount = failureCount;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+  }
+
+  /** Returns the number of provisions, including the failed ones. */
+  public long getProvisionCount() {
+    return provisionCount;
+  }
+
+  /** Returns the number of provisions that threw an exception. */
+  public long getFailureCount() {
+    return failureCount;
+  }
+
+  /** Returns the cumulative time of the provisions, in nanoseconds. */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /** Returns the time of the longest provision, in nanoseconds. */
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(ProvisionMetrics.class)
+        .add("provisionCount", provisionCount)
+        .add("failureCount", failureCount)
+        .add("totalNanos", totalNanos)
+        .add("maxNanos", maxNanos)
+        .toString();
+  }
+}
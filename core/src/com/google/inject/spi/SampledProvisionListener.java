@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link ProvisionListener} that only sees a fraction of the provisions, such as a listener
+ * that profiles provisioning. For example:
+ *
+ * <pre>
+ * bindListener(Matchers.any(), SampledProvisionListener.oneIn(100, new TimingListener()));
+ * </pre>
+ *
+ * <p>Guice decides whether to sample a provision before notifying any listener, so when no listener
+ * samples a provision, it is performed as if no listener were bound.
+ *
+ * @since 7.1
+ */
+public final class SampledProvisionListener implements ProvisionListener {
+
+  private final ProvisionListener delegate;
+  private final int oneIn;
+  private final long intervalNanos;
+  private final AtomicLong nextSampleNanos;
+
+  /**
+   * Returns a listener that passes each provision to {@code delegate} with a probability of {@code
+   * 1/n}. Sampling is random so that periodic provisions are sampled fairly, and uses no state
+   * shared between threads.
+   */
+  public static SampledProvisionListener oneIn(int n, ProvisionListener delegate) {
+    checkArgument(n > 0, "n must be positive: %s", n);
+    return new SampledProvisionListener(delegate, n, 0);
+  }
+
+  /**
+   * Returns a listener that passes at most one provision to {@code delegate} per {@code interval}:
+   * the first provision after each interval elapsed.
+   */
+  public static SampledProvisionListener atMostEvery(
+      Duration interval, ProvisionListener delegate) {
+    checkArgument(
+        !interval.isNegative() && !interval.isZero(), "interval must be positive: %s", interval);
+    return new SampledProvisionListener(delegate, 0, interval.toNanos());
+  }
+
+  private SampledProvisionListener(ProvisionListener delegate, int oneIn, long intervalNanos) {
+    this.delegate = checkNotNull(delegate, "delegate");
+    this.oneIn = oneIn;
+    this.intervalNanos = intervalNanos;
+    this.nextSampleNanos = intervalNanos == 0 ? null : new AtomicLong(System.nanoTime());
+  }
+
+  /** Returns the listener that sees the sampled provisions. */
+  public ProvisionListener getDelegate() {
+    return delegate;
+  }
+
+  /** Returns true if the provision that is starting should be passed to the delegate. */
+  public boolean sample() {
+    if (nextSampleNanos == null) {
+      return oneIn == 1 || ThreadLocalRandom.current().nextInt(oneIn) == 0;
+    }
+    long next = nextSampleNanos.get();
+    long now = System.nanoTime();
+    return now - next >= 0 && nextSampleNanos.compareAndSet(next, now + intervalNanos);
+  }
+
+  /**
+   * Passes the provision to the delegate if it is sampled. Guice doesn't call this method, since
+   * it samples provisions before creating the invocation.
+   */
+  @Override
+  public <T> void onProvision(ProvisionInvocation<T> provision) {
+    if (sample()) {
+      delegate.onProvision(provision);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return nextSampleNanos == null
+        ? "SampledProvisionListener[oneIn=" + oneIn + ", " + delegate + "]"
+        : "SampledProvisionListener[atMostEvery=" + Duration.ofNanos(intervalNanos) + ", "
+            + delegate + "]";
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.internal.GuiceInternal;
+import com.google.inject.internal.SingletonContention;
+import java.util.Optional;
+
+/**
+ * A snapshot of how long threads waited for a {@link com.google.inject.Singleton singleton} that
+ * another thread was creating. This helps finding slow singletons that many threads queue behind,
+ * for example when a server starts serving requests before its singletons are created.
+ *
+ * <p>Only contended singletons are measured: a thread that finds the singleton created, or its
+ * creation lock free, doesn't read the clock. The creation time is measured for singletons that a
+ * thread waited for while they were created.
+ *
+ * @since 7.1
+ */
+public final class SingletonContentionMetrics {
+
+  private final long contendedAcquisitions;
+  private final long totalWaitNanos;
+  private final long maxWaitNanos;
+  private final ImmutableSortedMap<Long, Long> waitHistogram;
+  private final long creationNanos;
+
+  /**
+   * Returns the contention of each singleton binding of {@code injector} that a thread waited for,
+   * including just-in-time bindings.
+   */
+  public static ImmutableMap<Key<?>, SingletonContentionMetrics> snapshot(Injector injector) {
+    return SingletonContention.snapshot(checkNotNull(injector, "injector"));
+  }
+
+  /**
+   * Returns the contention of {@code binding}, or empty if it isn't a singleton binding of an
+   * injector, or no thread waited for it.
+   */
+  public static Optional<SingletonContentionMetrics> of(Binding<?> binding) {
+    return SingletonContention.of(checkNotNull(binding, "binding"));
+  }
+
+  public SingletonContentionMetrics(
+      GuiceInternal internalOnly,
+      long contendedAcquisitions,
+      long totalWaitNanos,
+      long maxWaitNanos,
+      ImmutableSortedMap<Long, Long> waitHistogram,
+      long creationNanos) {
+    checkNotNull(internalOnly);
+    this.contendedAcquisitions = contendedAcquisitions;
+    this.totalWaitNanos = totalWaitNanos;
+    this.maxWaitNanos = maxWaitNanos;
+    this.waitHistogram = checkNotNull(waitHistogram);
+    this.creationNanos = creationNanos;
+  }
+
+  /** Returns the number of times a thread waited for the singleton's creation lock. */
+  public long getContendedAcquisitions() {
+    return contendedAcquisitions;
+  }
+
+  /** Returns the cumulative time threads waited for the creation lock, in nanoseconds. */
+  public long getTotalWaitNanos() {
+    return totalWaitNanos;
+  }
+
+  /** Returns the longest time a thread waited for the creation lock, in nanoseconds. */
+  public long getMaxWaitNanos() {
+    return maxWaitNanos;
+  }
+
+  /**
+   * Returns the number of waits by duration. Each entry maps an exclusive upper bound in
+   * nanoseconds, a power of two, to the number of waits that took at least half as long. Empty
+   * buckets are omitted.
+   */
+  public ImmutableSortedMap<Long, Long> getWaitHistogram() {
+    return waitHistogram;
+  }
+
+  /**
+   * Returns how long creating the singleton took, in nanoseconds, or -1 if no thread waited for it
+   * while it was being created.
+   */
+  public long getCreationNanos() {
+    return creationNanos;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(SingletonContentionMetrics.class)
+        .add("contendedAcquisitions", contendedAcquisitions)
+        .add("totalWaitNanos", totalWaitNanos)
+        .add("maxWaitNanos", maxWaitNanos)
+        .add("waitHistogram", waitHistogram)
+        .add("creationNanos", creationNanos)
+        .toString();
+  }
+}
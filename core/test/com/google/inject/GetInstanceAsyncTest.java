@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class GetInstanceAsyncTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void shutdownExecutor() {
+    executor.shutdownNow();
+  }
+
+  /** Counted down by the singletons, which only get created if they're created concurrently. */
+  static final CountDownLatch bothCreating = new CountDownLatch(2);
+
+  static void awaitBothCreating() {
+    bothCreating.countDown();
+    try {
+      if (!bothCreating.await(10, SECONDS)) {
+        throw new IllegalStateException("Not created concurrently");
+      }
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Singleton
+  static class First {
+    First() {
+      awaitBothCreating();
+    }
+  }
+
+  @Singleton
+  static class Second {
+    Second() {
+      awaitBothCreating();
+    }
+  }
+
+  static class Middle {
+    @Inject
+    Middle(Second second) {}
+  }
+
+  static class Root {
+    final First first;
+
+    @Inject
+    Root(First first, Middle middle) {
+      this.first = first;
+    }
+  }
+
+  @Test
+  public void createsSingletonsConcurrently() throws Exception {
+    Injector injector = Guice.createInjector();
+    Root root = injector.getInstanceAsync(Key.get(Root.class), executor).get(10, SECONDS);
+    assertThat(root.first).isSameInstanceAs(injector.getInstance(First.class));
+  }
+
+  static final AtomicInteger lazyCreations = new AtomicInteger();
+
+  @Singleton
+  static class Lazy {
+    Lazy() {
+      lazyCreations.incrementAndGet();
+    }
+  }
+
+  static class NeedsLazyProvider {
+    @Inject
+    NeedsLazyProvider(Provider<Lazy> lazy) {}
+  }
+
+  @Test
+  public void doesNotFollowProviders() throws Exception {
+    Injector injector = Guice.createInjector();
+    injector.getInstanceAsync(Key.get(NeedsLazyProvider.class), executor).get(10, SECONDS);
+    assertThat(lazyCreations.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void completesWithCompletionStageProvider() throws Exception {
+    CompletableFuture<String> fetched = new CompletableFuture<>();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Provides
+              CompletionStage<String> fetch() {
+                return fetched;
+              }
+            });
+    CompletableFuture<String> future = injector.getInstanceAsync(Key.get(String.class), executor);
+    fetched.complete("fetched");
+    assertThat(future.get(10, SECONDS)).isEqualTo("fetched");
+  }
+
+  interface Unbound {}
+
+  @Test
+  public void failsWithConfigurationException() {
+    Injector injector = Guice.createInjector();
+    ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> injector.getInstanceAsync(Key.get(Unbound.class), executor).get(10, SECONDS));
+    assertThat(e).hasCauseThat().isInstanceOf(ConfigurationException.class);
+  }
+
+  static class Failing {
+    Failing() {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  @Test
+  public void failsWithProvisionException() {
+    Injector injector = Guice.createInjector();
+    ExecutionException e =
+        assertThrows(
+            ExecutionException.class,
+            () -> injector.getInstanceAsync(Key.get(Failing.class), executor).get(10, SECONDS));
+    assertThat(e).hasCauseThat().isInstanceOf(ProvisionException.class);
+  }
+}
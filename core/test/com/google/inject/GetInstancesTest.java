@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.name.Names;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class GetInstancesTest {
+
+  static class Foo {}
+
+  @Singleton
+  static class Bar {}
+
+  interface Unbound {}
+
+  interface AlsoUnbound {}
+
+  static class Failing {
+    Failing() {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  private final Injector injector =
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              bindConstant().annotatedWith(Names.named("name")).to("value");
+            }
+          });
+
+  @Test
+  public void providesInstancesInOrder() {
+    Key<String> name = Key.get(String.class, Names.named("name"));
+    Instances instances = injector.getInstances(Key.get(Foo.class), Key.get(Bar.class), name);
+
+    assertThat(instances.size()).isEqualTo(3);
+    assertThat(instances.getKey(2)).isEqualTo(name);
+    assertThat(instances.get(0)).isInstanceOf(Foo.class);
+    assertThat(instances.get(Bar.class)).isSameInstanceAs(injector.getInstance(Bar.class));
+    assertThat(instances.get(name)).isEqualTo("value");
+    assertThat(instances.asList().get(2)).isEqualTo("value");
+    assertThrows(IllegalArgumentException.class, () -> instances.get(Unbound.class));
+  }
+
+  @Test
+  public void repeatedKeysAreProvisionedSeparately() {
+    Instances instances =
+        injector.getInstances(ImmutableList.of(Key.get(Foo.class), Key.get(Foo.class)));
+    assertThat(instances.get(0)).isNotSameInstanceAs(instances.get(1));
+    assertThat(instances.get(Foo.class)).isSameInstanceAs(instances.get(0));
+  }
+
+  @Test
+  public void reportsEveryMissingBindingBeforeProvisioning() {
+    ConfigurationException e =
+        assertThrows(
+            ConfigurationException.class,
+            () ->
+                injector.getInstances(
+                    Key.get(Failing.class), Key.get(Unbound.class), Key.get(AlsoUnbound.class)));
+    assertThat(e.getErrorMessages()).hasSize(2);
+  }
+
+  @Test
+  public void provisionFailure() {
+    assertThrows(
+        ProvisionException.class,
+        () -> injector.getInstances(Key.get(Foo.class), Key.get(Failing.class)));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class GraphScopedTest {
+
+  @GraphScoped
+  static class Session {}
+
+  static class Left {
+    @Inject Session session;
+  }
+
+  static class Right {
+    @Inject Session session;
+  }
+
+  static class Root {
+    final Left left;
+    final Right right;
+    final Session late;
+
+    @Inject
+    Root(Left left, Right right, Provider<Session> sessionProvider) {
+      this.left = left;
+      this.right = right;
+      this.late = sessionProvider.get();
+    }
+  }
+
+  @Test
+  public void sharesAnInstanceWithinAGraph() {
+    Injector injector = Guice.createInjector();
+    Root root = injector.getInstance(Root.class);
+    assertThat(root.left.session).isSameInstanceAs(root.right.session);
+    assertThat(root.late).isSameInstanceAs(root.left.session);
+
+    Root other = injector.getInstance(Root.class);
+    assertThat(other.left.session).isNotSameInstanceAs(root.left.session);
+    assertThat(injector.getInstance(Session.class))
+        .isNotSameInstanceAs(injector.getInstance(Session.class));
+  }
+
+  @Test
+  public void batchIsOneGraph() {
+    Injector injector = Guice.createInjector();
+    Instances instances = injector.getInstances(Key.get(Left.class), Key.get(Right.class));
+    assertThat(instances.get(Left.class).session)
+        .isSameInstanceAs(instances.get(Right.class).session);
+  }
+
+  @Test
+  public void childInjectorsShareTheGraph() {
+    Injector parent = Guice.createInjector();
+    Injector child =
+        parent.createChildInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Left.class);
+              }
+            });
+    Root root = child.getInstance(Root.class);
+    assertThat(root.left.session).isSameInstanceAs(root.right.session);
+  }
+
+  @Test
+  public void cachesNullWithinAGraph() {
+    AtomicInteger calls = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Provides
+              @GraphScoped
+              @Named("nullable")
+              @Nullable
+              String provideNull() {
+                calls.incrementAndGet();
+                return null;
+              }
+            });
+    Key<String> key = Key.get(String.class, Names.named("nullable"));
+    injector.getInstances(key, key);
+    assertThat(calls.get()).isEqualTo(1);
+    injector.getInstance(key);
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void scopingIsVisible() {
+    Injector injector = Guice.createInjector();
+    Binding<Session> binding = injector.getBinding(Session.class);
+    assertThat(Scopes.isScoped(binding, Scopes.GRAPH, GraphScoped.class)).isTrue();
+    assertThat(injector.getScopeBindings()).containsEntry(GraphScoped.class, Scopes.GRAPH);
+  }
+}
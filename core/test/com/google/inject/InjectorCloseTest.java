@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link Injector#close}. */
+@RunWith(JUnit4.class)
+public class InjectorCloseTest {
+
+  static class A {}
+
+  static class NeedsName {
+    @Inject
+    NeedsName(@Named("name") String name) {}
+  }
+
+  static class Leaf {}
+
+  @Test
+  public void closingAChildReleasesItsKeysInTheParent() {
+    Injector parent = Guice.createInjector();
+    Injector child = parent.createChildInjector(binder -> binder.bind(A.class));
+    Injector grandchild = child.createChildInjector(binder -> binder.bind(Leaf.class));
+    assertThrows(ConfigurationException.class, () -> parent.getInstance(A.class));
+    assertThrows(ConfigurationException.class, () -> parent.getInstance(Leaf.class));
+
+    grandchild.close();
+    assertThat(parent.getInstance(Leaf.class)).isNotNull();
+    assertThrows(ConfigurationException.class, () -> parent.getInstance(A.class));
+
+    child.close();
+    assertThat(parent.getInstance(A.class)).isNotNull();
+  }
+
+  @Test
+  public void closingReleasesJustInTimeBindings() {
+    Injector parent = Guice.createInjector();
+    Injector child = parent.createChildInjector(bindName("child"));
+    child.getInstance(NeedsName.class);
+    assertThat(child.getAllBindings()).containsKey(Key.get(NeedsName.class));
+    assertThrows(ConfigurationException.class, () -> parent.getInstance(NeedsName.class));
+
+    child.close();
+    assertThat(child.getAllBindings()).doesNotContainKey(Key.get(NeedsName.class));
+    assertThat(parent.getExistingBinding(Key.get(NeedsName.class))).isNull();
+    // Closing again has no effect
+    child.close();
+  }
+
+  @Test
+  public void closedInjectorsAndTheirChildrenCantBeUsed() {
+    Injector parent = Guice.createInjector();
+    Injector child = parent.createChildInjector(bindName("child"));
+    Injector grandchild = child.createChildInjector();
+    Provider<NeedsName> provider = child.getProvider(NeedsName.class);
+
+    child.close();
+    for (Injector closed : new Injector[] {child, grandchild}) {
+      assertThrows(IllegalStateException.class, () -> closed.getBinding(A.class));
+      assertThrows(IllegalStateException.class, () -> closed.getExistingBinding(Key.get(A.class)));
+      assertThrows(IllegalStateException.class, () -> closed.getProvider(A.class));
+      assertThrows(IllegalStateException.class, () -> closed.getInstance(A.class));
+      assertThrows(IllegalStateException.class, () -> closed.getInstances(Key.get(A.class)));
+      assertThrows(IllegalStateException.class, () -> closed.injectMembers(new A()));
+      assertThrows(IllegalStateException.class, () -> closed.createChildInjector());
+    }
+    // Providers obtained before closing still work, and the parent is unaffected.
+    assertThat(provider.get()).isNotNull();
+    assertThat(parent.getInstance(A.class)).isNotNull();
+  }
+
+  private static Module bindName(String name) {
+    return binder -> binder.bindConstant().annotatedWith(Names.named("name")).to(name);
+  }
+}
@@ -22,6 +22,7 @@ import static com.google.inject.Asserts.assertNotSerializable;
 import static com.google.inject.Asserts.awaitClear;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
+import com.google.inject.internal.InternalFlags;
 import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.google.inject.spi.Dependency;
@@ -31,13 +32,17 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import junit.framework.TestCase;
 
@@ -267,6 +272,56 @@ public class KeyTest extends TestCase {
   @BindingAnnotation
   @interface Foo {}
 
+  @Retention(RUNTIME)
+  @BindingAnnotation
+  @interface Qualifier {
+    String value();
+
+    int[] ids();
+  }
+
+  @Qualifier(value = "a", ids = {1, 2})
+  String qualified;
+
+  @Qualifier(value = "a", ids = {1, 2})
+  String sameQualified;
+
+  @Qualifier(value = "a", ids = {1, 3})
+  String otherQualified;
+
+  public void testKeysWithAttributes() throws NoSuchFieldException {
+    Qualifier qualifier = getClass().getDeclaredField("qualified").getAnnotation(Qualifier.class);
+    Qualifier same = getClass().getDeclaredField("sameQualified").getAnnotation(Qualifier.class);
+    Qualifier other = getClass().getDeclaredField("otherQualified").getAnnotation(Qualifier.class);
+    assertEqualsBothWays(Key.get(String.class, qualifier), Key.get(String.class, same));
+    assertFalse(Key.get(String.class, qualifier).equals(Key.get(String.class, other)));
+    assertFalse(Key.get(String.class, qualifier).equals(Key.get(Object.class, same)));
+    assertSame(qualifier, Key.get(String.class, qualifier).getAnnotation());
+  }
+
+  public void testKeysWithAttributesDontCallTheAnnotationOnLookup() throws NoSuchFieldException {
+    Qualifier qualifier = getClass().getDeclaredField("qualified").getAnnotation(Qualifier.class);
+    AtomicInteger calls = new AtomicInteger();
+    InvocationHandler handler =
+        (proxy, method, args) -> {
+          calls.incrementAndGet();
+          return method.invoke(qualifier, args);
+        };
+    Qualifier counting =
+        (Qualifier)
+            Proxy.newProxyInstance(
+                Qualifier.class.getClassLoader(), new Class<?>[] {Qualifier.class}, handler);
+
+    Map<Key<?>, String> map = new HashMap<>();
+    map.put(Key.get(String.class, counting), "value");
+    assertEquals("value", map.get(Key.get(String.class, qualifier)));
+    int callsToCreateAndCompare = calls.get();
+    for (int i = 0; i < 10; i++) {
+      assertEquals("value", map.get(Key.get(String.class, qualifier)));
+    }
+    assertEquals(callsToCreateAndCompare, calls.get());
+  }
+
   @SuppressWarnings("InjectScopeOrQualifierAnnotationRetention") // to check failure mode
   @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
   @BindingAnnotation
@@ -278,6 +333,29 @@ public class KeyTest extends TestCase {
     C c;
   }
 
+  public void testInterning() throws NoSuchFieldException {
+    Key<List<String>> key = Key.get(new TypeLiteral<List<String>>() {}, Names.named("interned"));
+    Key<List<String>> other =
+        Key.get(new TypeLiteral<List<String>>() {}, Names.named("interned"));
+    assertEquals(key, other);
+    if (!InternalFlags.isKeyInterningEnabled()) {
+      assertNotSame(key, other);
+      return;
+    }
+    assertSame(key, other);
+    assertSame(key.getTypeLiteral(), other.getTypeLiteral());
+    assertSame(key, new Key<List<String>>(Names.named("interned")) {}.ofType(key.getTypeLiteral()));
+    assertSame(TypeLiteral.get(String.class), TypeLiteral.get(String.class));
+
+    // Keys of marker annotations keep their annotation instance
+    Foo annotation = getClass().getDeclaredField("baz").getAnnotation(Foo.class);
+    Key<String> withoutInstance = Key.get(String.class, Foo.class);
+    Key<String> withInstance = Key.get(String.class, annotation);
+    assertEquals(withoutInstance, withInstance);
+    assertNull(withoutInstance.getAnnotation());
+    assertSame(annotation, withInstance.getAnnotation());
+  }
+
   public void testKeysWithDefaultAnnotations() {
     AllDefaults allDefaults = HasAnnotations.class.getAnnotation(AllDefaults.class);
     assertEquals(Key.get(Foo.class, allDefaults), Key.get(Foo.class, AllDefaults.class));
@@ -285,6 +363,8 @@ public class KeyTest extends TestCase {
     Marker marker = HasAnnotations.class.getAnnotation(Marker.class);
     assertEquals(Key.get(Foo.class, marker), Key.get(Foo.class, Marker.class));
 
+    assertEqualsBothWays(Key.get(Foo.class, AllDefaults.class), Key.get(Foo.class, allDefaults));
+
     Key<?> noDefaults = Key.get(Foo.class, NoDefaults.class);
     assertNull(noDefaults.getAnnotation());
     assertEquals(NoDefaults.class, noDefaults.getAnnotationType());
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.inject.name.Named;
+import com.google.inject.spi.ConstructorBinding;
+import com.google.inject.spi.Dependency;
+import com.google.inject.spi.HasDependencies;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link Stage#LAZY}. */
+@RunWith(JUnit4.class)
+public class LazyStageTest {
+
+  static class Broken {
+    @Inject
+    Broken(@Named("missing") String missing) {}
+  }
+
+  static class UsesBroken {
+    @Inject
+    UsesBroken(Broken broken) {}
+  }
+
+  static class Leaf {
+    @Inject
+    Leaf() {}
+  }
+
+  static class Root {
+    final Leaf leaf;
+
+    @Inject
+    Root(Leaf leaf) {
+      this.leaf = leaf;
+    }
+  }
+
+  static final AtomicInteger singletonsCreated = new AtomicInteger();
+
+  @Singleton
+  static class CountingSingleton {
+    @Inject
+    CountingSingleton() {
+      singletonsCreated.incrementAndGet();
+    }
+  }
+
+  static class InjectedInstance {
+    @Inject UsesBroken usesBroken;
+  }
+
+  interface Service {}
+
+  static class BrokenService implements Service {
+    @Inject
+    BrokenService(@Named("missing") String missing) {}
+  }
+
+  static class TransitivelyBrokenService implements Service {
+    @Inject
+    TransitivelyBrokenService(UsesBroken usesBroken) {}
+  }
+
+  static class BrokenServiceProvider implements Provider<Service> {
+    @Inject
+    BrokenServiceProvider(Broken broken) {}
+
+    @Override
+    public Service get() {
+      throw new AssertionError();
+    }
+  }
+
+  static class BrokenProviderMethodModule extends AbstractModule {
+    @Provides
+    Object provideObject(UsesBroken usesBroken) {
+      return usesBroken;
+    }
+  }
+
+  @Test
+  public void unreachableBindingsAreNotValidatedUpFront() {
+    assertThrows(
+        CreationException.class,
+        () -> Guice.createInjector(Stage.PRODUCTION, binding(Broken.class)));
+
+    Injector injector = Guice.createInjector(Stage.LAZY, binding(Broken.class));
+    ConfigurationException expected =
+        assertThrows(ConfigurationException.class, () -> injector.getInstance(Broken.class));
+    assertThat(expected).hasMessageThat().contains("@Named(");
+    assertThat(expected).hasMessageThat().contains("missing");
+  }
+
+  @Test
+  public void errorsAreReportedOnEveryUse() {
+    Injector injector = Guice.createInjector(Stage.LAZY, binding(Broken.class));
+    Provider<UsesBroken> provider = injector.getProvider(UsesBroken.class);
+    assertThrows(ConfigurationException.class, provider::get);
+    assertThrows(ConfigurationException.class, provider::get);
+  }
+
+  @Test
+  public void bindingsReachableFromEagerSingletonsAreValidated() {
+    CreationException expected =
+        assertThrows(
+            CreationException.class,
+            () ->
+                Guice.createInjector(
+                    Stage.LAZY,
+                    new AbstractModule() {
+                      @Override
+                      protected void configure() {
+                        bind(Broken.class);
+                        bind(UsesBroken.class).asEagerSingleton();
+                      }
+                    }));
+    assertThat(expected).hasMessageThat().contains("missing");
+  }
+
+  @Test
+  public void bindingsReachableFromInjectionRequestsAreValidated() {
+    CreationException expected =
+        assertThrows(
+            CreationException.class,
+            () ->
+                Guice.createInjector(
+                    Stage.LAZY,
+                    new AbstractModule() {
+                      @Override
+                      protected void configure() {
+                        bind(Broken.class);
+                        bind(UsesBroken.class);
+                        requestInjection(new InjectedInstance());
+                      }
+                    }));
+    assertThat(expected).hasMessageThat().contains("missing");
+  }
+
+  @Test
+  public void deferredBindingsWorkOnFirstUse() {
+    Injector injector =
+        Guice.createInjector(Stage.LAZY, binding(Root.class), binding(Leaf.class));
+    assertThat(injector.getInstance(Root.class).leaf).isNotNull();
+  }
+
+  @Test
+  public void deferredBindingsAreInitializedForSpiUsers() {
+    Injector injector =
+        Guice.createInjector(Stage.LAZY, binding(Root.class), binding(Leaf.class));
+    Binding<Root> binding = injector.getBinding(Root.class);
+    assertThat(binding).isInstanceOf(ConstructorBinding.class);
+    Dependency<?> dependency = getOnlyElement(((HasDependencies) binding).getDependencies());
+    assertThat(dependency.getKey()).isEqualTo(Key.get(Leaf.class));
+  }
+
+  @Test
+  public void onlyExplicitEagerSingletonsAreLoaded() {
+    singletonsCreated.set(0);
+    Injector injector = Guice.createInjector(Stage.LAZY, binding(CountingSingleton.class));
+    assertThat(singletonsCreated.get()).isEqualTo(0);
+    injector.getInstance(CountingSingleton.class);
+    injector.getInstance(CountingSingleton.class);
+    assertThat(singletonsCreated.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void linkedBindingsAreNotValidatedUpFront() {
+    assertDeferred(Service.class, linkedBinding(BrokenService.class));
+  }
+
+  @Test
+  public void linkedBindingsWithTransitivelyBrokenTargetsAreNotValidatedUpFront() {
+    assertDeferred(Service.class, linkedBinding(TransitivelyBrokenService.class));
+  }
+
+  @Test
+  public void providerKeyBindingsAreNotValidatedUpFront() {
+    assertDeferred(
+        Service.class,
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            bind(Service.class).toProvider(BrokenServiceProvider.class);
+          }
+        });
+  }
+
+  @Test
+  public void providerMethodsAreNotValidatedUpFront() {
+    assertDeferred(Object.class, new BrokenProviderMethodModule());
+  }
+
+  @Test
+  public void childInjectorsAreLazy() {
+    Injector parent = Guice.createInjector(Stage.LAZY);
+    Injector child = parent.createChildInjector(binding(Broken.class));
+    assertThrows(ConfigurationException.class, () -> child.getInstance(Broken.class));
+  }
+
+  /**
+   * Asserts that the broken binding of {@code type} in {@code module} fails injector creation in
+   * {@link Stage#PRODUCTION}, and in {@link Stage#LAZY} when it's reachable, but otherwise only
+   * fails when it's used.
+   */
+  private static void assertDeferred(Class<?> type, Module module) {
+    CreationException production =
+        assertThrows(CreationException.class, () -> Guice.createInjector(Stage.PRODUCTION, module));
+    assertThat(production).hasMessageThat().contains("missing");
+
+    Injector injector = Guice.createInjector(Stage.LAZY, module);
+    ConfigurationException expected =
+        assertThrows(ConfigurationException.class, () -> injector.getInstance(type));
+    assertThat(expected).hasMessageThat().contains("missing");
+
+    CreationException reachable =
+        assertThrows(
+            CreationException.class,
+            () ->
+                Guice.createInjector(
+                    Stage.LAZY,
+                    module,
+                    new AbstractModule() {
+                      @Override
+                      protected void configure() {
+                        getProvider(type);
+                      }
+                    }));
+    assertThat(reachable).hasMessageThat().contains("missing");
+  }
+
+  private static Module linkedBinding(Class<? extends Service> implementation) {
+    return new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(Service.class).to(implementation);
+      }
+    };
+  }
+
+  private static Module binding(Class<?> type) {
+    return new AbstractModule() {
+      @Override
+      protected void configure() {
+        bind(type);
+      }
+    };
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import com.google.inject.spi.ProviderBinding;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class LazyTest {
+
+  static final AtomicInteger expensiveCreations = new AtomicInteger();
+
+  static class Expensive {
+    Expensive() {
+      expensiveCreations.incrementAndGet();
+    }
+  }
+
+  static class Client {
+    final Lazy<Expensive> first;
+    final Lazy<Expensive> second;
+
+    @Inject
+    Client(Lazy<Expensive> first, Lazy<Expensive> second) {
+      this.first = first;
+      this.second = second;
+    }
+  }
+
+  @Test
+  public void provisionsOnFirstGetAndMemoizes() {
+    int before = expensiveCreations.get();
+    Client client = Guice.createInjector().getInstance(Client.class);
+    assertThat(expensiveCreations.get()).isEqualTo(before);
+
+    Expensive expensive = client.first.get();
+    assertThat(client.first.get()).isSameInstanceAs(expensive);
+    assertThat(expensiveCreations.get()).isEqualTo(before + 1);
+
+    // Each injection is a separate Lazy of the unscoped binding.
+    assertThat(client.second.get()).isNotSameInstanceAs(expensive);
+  }
+
+  @Test
+  public void annotatedAndSingletonKeys() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Expensive.class)
+                    .annotatedWith(Names.named("single"))
+                    .to(Expensive.class)
+                    .in(Singleton.class);
+              }
+            });
+    Key<Expensive> key = Key.get(Expensive.class, Names.named("single"));
+    Lazy<Expensive> lazy =
+        injector.getInstance(
+            Key.get(new TypeLiteral<Lazy<Expensive>>() {}, Names.named("single")));
+    assertThat(lazy.get()).isSameInstanceAs(injector.getInstance(key));
+  }
+
+  @Test
+  public void bindingIsAProviderBinding() {
+    Injector injector = Guice.createInjector();
+    Binding<Lazy<Expensive>> binding = injector.getBinding(new Key<Lazy<Expensive>>() {});
+    assertThat(binding).isInstanceOf(ProviderBinding.class);
+    assertThat(((ProviderBinding<?>) binding).getProvidedKey())
+        .isEqualTo(Key.get(Expensive.class));
+  }
+
+  static class NeedsNullable {
+    @Inject
+    Lazy<String> value;
+  }
+
+  @Test
+  public void memoizesNull() {
+    AtomicInteger calls = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Provides
+              @Nullable
+              String provideNull() {
+                calls.incrementAndGet();
+                return null;
+              }
+            });
+    NeedsNullable needsNullable = injector.getInstance(NeedsNullable.class);
+    assertThat(needsNullable.value.get()).isNull();
+    assertThat(needsNullable.value.get()).isNull();
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void retriesAfterFailure() {
+    AtomicInteger calls = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Provides
+              @Named("flaky")
+              String provideFlaky() {
+                if (calls.incrementAndGet() == 1) {
+                  throw new IllegalStateException("flaky");
+                }
+                return "value";
+              }
+            });
+    Lazy<String> lazy =
+        injector.getInstance(Key.get(new TypeLiteral<Lazy<String>>() {}, Names.named("flaky")));
+    assertThrows(ProvisionException.class, lazy::get);
+    assertThat(lazy.get()).isEqualTo("value");
+  }
+
+  @Test
+  public void provisionsOnceAcrossThreads() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch provisioning = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Provides
+              @Named("slow")
+              Object provideSlow() throws InterruptedException {
+                calls.incrementAndGet();
+                provisioning.countDown();
+                release.await(10, SECONDS);
+                return new Object();
+              }
+            });
+    Lazy<Object> lazy =
+        injector.getInstance(Key.get(new TypeLiteral<Lazy<Object>>() {}, Names.named("slow")));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Object>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(executor.submit(lazy::get));
+      }
+      provisioning.await(10, SECONDS);
+      release.countDown();
+      Object instance = futures.get(0).get(10, SECONDS);
+      for (Future<Object> future : futures) {
+        assertThat(future.get(10, SECONDS)).isSameInstanceAs(instance);
+      }
+      assertThat(calls.get()).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void rawLazy() {
+    ConfigurationException e =
+        assertThrows(
+            ConfigurationException.class, () -> Guice.createInjector().getInstance(Lazy.class));
+    assertThat(e)
+        .hasMessageThat()
+        .contains("[Guice/InjectRawLazy]: Cannot inject a Lazy that has no type parameter");
+  }
+}
@@ -30,6 +30,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.inject.internal.InternalFlags;
 import com.google.inject.matcher.Matchers;
+import com.google.inject.name.Named;
 import com.google.inject.name.Names;
 import com.google.inject.spi.TypeConverter;
 import java.lang.annotation.Retention;
@@ -397,4 +398,38 @@ public class ParentInjectorTest {
 
   @ImplementedBy(F.class)
   interface G {}
+
+  @Test
+  public void testJustInTimeBindingsThatFailInParentAreCreatedInEachChild() {
+    Injector parent = Guice.createInjector();
+    for (int i = 0; i < 3; i++) {
+      String name = "child" + i;
+      Injector child =
+          parent.createChildInjector(
+              new AbstractModule() {
+                @Override
+                protected void configure() {
+                  bindConstant().annotatedWith(Names.named("name")).to(name);
+                }
+              });
+      assertEquals(name, child.getInstance(NeedsName.class).name);
+    }
+    assertNull(parent.getExistingBinding(Key.get(NeedsName.class)));
+
+    try {
+      parent.getInstance(NeedsName.class);
+      fail();
+    } catch (ConfigurationException expected) {
+      assertContains(expected.getMessage(), true, "ParentInjectorTest$NeedsName");
+    }
+  }
+
+  static class NeedsName {
+    final String name;
+
+    @Inject
+    NeedsName(@Named("name") String name) {
+      this.name = name;
+    }
+  }
 }
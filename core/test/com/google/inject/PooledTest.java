@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class PooledTest {
+
+  static class Parser {
+    final AtomicBoolean inUse = new AtomicBoolean();
+  }
+
+  static class Unpooled {}
+
+  static class ParserUser {
+    @Inject Pooled<Parser> parser;
+  }
+
+  private static Injector createInjector(int maxSize, AtomicInteger creations) {
+    return Guice.createInjector(
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            bind(Parser.class)
+                .toProvider(
+                    () -> {
+                      creations.incrementAndGet();
+                      return new Parser();
+                    })
+                .in(Scopes.pooled(maxSize));
+          }
+        });
+  }
+
+  @Test
+  public void checksInstancesOutAndBackIn() {
+    AtomicInteger creations = new AtomicInteger();
+    Injector injector = createInjector(2, creations);
+    Pooled<Parser> handle = injector.getInstance(ParserUser.class).parser;
+    Parser parser = handle.get();
+    assertThat(handle.get()).isSameInstanceAs(parser);
+    handle.close();
+    handle.close();
+
+    try (Pooled<Parser> other = injector.getInstance(ParserUser.class).parser) {
+      assertThat(other.get()).isSameInstanceAs(parser);
+    }
+    assertThat(creations.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void keepsAtMostMaxSizeIdleInstances() {
+    AtomicInteger creations = new AtomicInteger();
+    Injector injector = createInjector(2, creations);
+    Key<Pooled<Parser>> key = new Key<Pooled<Parser>>() {};
+    List<Pooled<Parser>> handles = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      handles.add(injector.getInstance(key));
+      handles.get(i).get();
+    }
+    handles.forEach(Pooled::close);
+    for (Pooled<Parser> handle : handles) {
+      handle.get();
+    }
+    assertThat(creations.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void neverChecksOutAnInstanceTwice() throws Exception {
+    Injector injector = createInjector(4, new AtomicInteger());
+    Key<Pooled<Parser>> key = new Key<Pooled<Parser>>() {};
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  Pooled<Parser> handle = injector.getInstance(key);
+                  for (int j = 0; j < 1000; j++) {
+                    Parser parser = handle.get();
+                    if (!parser.inUse.compareAndSet(false, true)) {
+                      return false;
+                    }
+                    parser.inUse.set(false);
+                    handle.close();
+                  }
+                  return true;
+                }));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void requiresAPooledBinding() {
+    Injector injector = Guice.createInjector();
+    ConfigurationException expected =
+        assertThrows(
+            ConfigurationException.class,
+            () -> injector.getInstance(new Key<Pooled<Unpooled>>() {}));
+    assertThat(expected).hasMessageThat().contains("[Guice/NotPooled]");
+    assertThat(expected).hasMessageThat().contains("which is not bound in a pooled scope");
+    assertThrows(IllegalArgumentException.class, () -> Scopes.pooled(0));
+  }
+
+  @Test
+  public void existingBindingRequiresAPooledBinding() {
+    Injector injector = createInjector(2, new AtomicInteger());
+    injector.getInstance(Unpooled.class);
+    assertThat(injector.getExistingBinding(new Key<Pooled<Unpooled>>() {})).isNull();
+    assertThat(injector.getExistingBinding(new Key<Pooled<Parser>>() {})).isNotNull();
+  }
+
+  @Test
+  public void rawPooled() {
+    ConfigurationException expected =
+        assertThrows(
+            ConfigurationException.class, () -> Guice.createInjector().getInstance(Pooled.class));
+    assertThat(expected)
+        .hasMessageThat()
+        .contains("[Guice/InjectRawPooled]: Cannot inject a Pooled that has no type parameter");
+  }
+
+  @Test
+  public void injectingTheBindingDirectlyChecksOut() {
+    AtomicInteger creations = new AtomicInteger();
+    Injector injector = createInjector(2, creations);
+    assertThat(injector.getInstance(Parser.class))
+        .isNotSameInstanceAs(injector.getInstance(Parser.class));
+    assertThat(creations.get()).isEqualTo(2);
+    assertThat(injector.getBinding(Parser.class).toString()).contains("Scopes.pooled(2)");
+  }
+}
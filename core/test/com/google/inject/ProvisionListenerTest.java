@@ -31,7 +31,9 @@ import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Named;
 import com.google.inject.spi.InstanceBinding;
 import com.google.inject.spi.ProvisionListener;
+import com.google.inject.spi.SampledProvisionListener;
 import com.google.inject.util.Providers;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -926,4 +928,95 @@ public class ProvisionListenerTest extends TestCase {
     injector.getInstance(Many.class);
     assertEquals("ProvisionListener not de-duplicated", 1, counter.count);
   }
+
+  public void testSampledListenerSeesSampledProvisions() {
+    final Counter everyProvision = new Counter();
+    final Counter firstProvision = new Counter();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bindListener(Matchers.any(), SampledProvisionListener.oneIn(1, everyProvision));
+                bindListener(
+                    Matchers.any(),
+                    SampledProvisionListener.atMostEvery(Duration.ofHours(1), firstProvision));
+              }
+            });
+    for (int i = 0; i < 10; i++) {
+      injector.getInstance(Foo.class);
+    }
+    assertEquals(10, everyProvision.count);
+    assertEquals(1, firstProvision.count);
+  }
+
+  public void testUnsampledListenersAreSkipped() {
+    final Counter sampled = new Counter();
+    final Capturer capturer = new Capturer();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bindListener(
+                    Matchers.any(),
+                    SampledProvisionListener.atMostEvery(Duration.ofHours(1), sampled));
+                bindListener(Matchers.any(), capturer);
+              }
+            });
+    injector.getInstance(NeedsFoo.class);
+    injector.getInstance(Foo.class);
+    assertEquals(1, sampled.count);
+    assertEquals(
+        of(Key.get(NeedsFoo.class), Key.get(Foo.class), Key.get(Foo.class)),
+        capturer.getAndClear());
+  }
+
+  static class NeedsFoo {
+    @Inject
+    NeedsFoo(Foo foo) {}
+  }
+
+  public void testListenerProvisioningAnotherKeyBeforeInjectingAnInstance() {
+    final InjectedFoo instance = new InjectedFoo();
+    final List<Key<?>> keys = Lists.newArrayList();
+    final List<Object> results = Lists.newArrayList();
+    Guice.createInjector(
+        new AbstractModule() {
+          @Override
+          protected void configure() {
+            final Provider<NeedsFoo> needsFooProvider = getProvider(NeedsFoo.class);
+            bind(InjectedFoo.class).toInstance(instance);
+            bindListener(
+                Matchers.any(),
+                new ProvisionListener() {
+                  @Override
+                  public <T> void onProvision(ProvisionInvocation<T> provision) {
+                    Key<?> key = provision.getBinding().getKey();
+                    if (key.equals(Key.get(InjectedFoo.class))) {
+                      // Reuses the invocation of the next level, before it's provisioned
+                      needsFooProvider.get();
+                    }
+                    Object result = provision.provision();
+                    assertEquals(key, provision.getBinding().getKey());
+                    keys.add(key);
+                    results.add(result);
+                  }
+                });
+          }
+        });
+    assertNotNull(instance.foo);
+    assertThat(keys)
+        .containsExactly(
+            Key.get(Foo.class),
+            Key.get(NeedsFoo.class),
+            Key.get(Foo.class),
+            Key.get(InjectedFoo.class))
+        .inOrder();
+    assertSame(instance, Iterables.getLast(results));
+  }
+
+  static class InjectedFoo {
+    @Inject Foo foo;
+  }
 }
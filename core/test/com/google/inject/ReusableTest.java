@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import com.google.inject.spi.DefaultBindingScopingVisitor;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ReusableTest {
+
+  static final AtomicInteger formatterCreations = new AtomicInteger();
+
+  @Reusable
+  static class Formatter {
+    Formatter() {
+      formatterCreations.incrementAndGet();
+    }
+  }
+
+  static class Unscoped {}
+
+  @Test
+  public void reusesTheCachedInstance() {
+    Injector injector = Guice.createInjector(Stage.PRODUCTION);
+    int before = formatterCreations.get();
+    Formatter formatter = injector.getInstance(Formatter.class);
+    assertThat(formatterCreations.get()).isEqualTo(before + 1);
+    assertThat(injector.getInstance(Formatter.class)).isSameInstanceAs(formatter);
+  }
+
+  @Test
+  public void bindingsAndProviderMethods() {
+    AtomicInteger calls = new AtomicInteger();
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Unscoped.class).in(Scopes.REUSABLE);
+              }
+
+              @Provides
+              @Reusable
+              @Named("nullable")
+              @Nullable
+              String provideNull() {
+                calls.incrementAndGet();
+                return null;
+              }
+            });
+    assertThat(injector.getInstance(Unscoped.class))
+        .isSameInstanceAs(injector.getInstance(Unscoped.class));
+
+    Key<String> key = Key.get(String.class, Names.named("nullable"));
+    assertThat(injector.getInstance(key)).isNull();
+    assertThat(injector.getInstance(key)).isNull();
+    assertThat(calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void scopingIsVisible() {
+    Injector injector = Guice.createInjector();
+    Binding<Formatter> binding = injector.getBinding(Formatter.class);
+    assertThat(Scopes.isScoped(binding, Scopes.REUSABLE, Reusable.class)).isTrue();
+    assertThat(Scopes.isSingleton(binding)).isFalse();
+    Scope scope =
+        binding.acceptScopingVisitor(
+            new DefaultBindingScopingVisitor<Scope>() {
+              @Override
+              public Scope visitScope(Scope scope) {
+                return scope;
+              }
+            });
+    assertThat(scope).isSameInstanceAs(Scopes.REUSABLE);
+    assertThat(injector.getScopeBindings()).containsEntry(Reusable.class, Scopes.REUSABLE);
+  }
+}
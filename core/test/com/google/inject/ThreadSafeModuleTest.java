@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.inject.multibindings.Multibinder;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import com.google.inject.spi.Element;
+import com.google.inject.spi.ElementSource;
+import com.google.inject.spi.Elements;
+import com.google.inject.spi.InjectionPoint;
+import com.google.inject.spi.ModuleAnnotatedMethodScanner;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ThreadSafeModule}. */
+@RunWith(JUnit4.class)
+public class ThreadSafeModuleTest {
+
+  static class SequentialModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(Names.named("sequential")).to("s");
+      install(new SharedModule());
+    }
+  }
+
+  @ThreadSafeModule
+  static class FirstModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(Names.named("first")).to("1");
+      install(new NestedModule());
+    }
+
+    @Provides
+    @Named("firstProvided")
+    String provideFirst() {
+      return "p1";
+    }
+  }
+
+  @ThreadSafeModule
+  static class SecondModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(Names.named("second")).to("2");
+      install(new SharedModule());
+    }
+  }
+
+  static class NestedModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(Names.named("nested")).to("n");
+    }
+  }
+
+  /** Installed by more than one module, deduplicated by equality. */
+  static class SharedModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      Multibinder.newSetBinder(binder(), String.class).addBinding().toInstance("shared");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof SharedModule;
+    }
+
+    @Override
+    public int hashCode() {
+      return SharedModule.class.hashCode();
+    }
+  }
+
+  @Test
+  public void elementsAreRecordedInModuleOrder() {
+    List<Element> elements =
+        Elements.getElements(new FirstModule(), new SequentialModule(), new SecondModule());
+
+    List<List<String>> moduleClassNames = new ArrayList<>();
+    for (Element element : elements) {
+      if (element instanceof Binding
+          && ((Binding<?>) element).getKey().getAnnotation() instanceof Named) {
+        moduleClassNames.add(((ElementSource) element.getSource()).getModuleClassNames());
+      }
+    }
+    assertThat(moduleClassNames)
+        .containsExactly(
+            ImmutableList.of(FirstModule.class.getName()),
+            ImmutableList.of(NestedModule.class.getName(), FirstModule.class.getName()),
+            ImmutableList.of(FirstModule.class.getName()), // the @Provides method
+            ImmutableList.of(SequentialModule.class.getName()),
+            ImmutableList.of(SecondModule.class.getName()))
+        .inOrder();
+  }
+
+  @Test
+  public void declaringSourcesPointAtTheModules() {
+    for (Element element : Elements.getElements(new FirstModule(), new SecondModule())) {
+      if (element instanceof Binding) {
+        ElementSource source = (ElementSource) element.getSource();
+        Object declaringSource = source.getDeclaringSource();
+        if (declaringSource instanceof StackTraceElement) {
+          assertThat(((StackTraceElement) declaringSource).getClassName())
+              .startsWith(ThreadSafeModuleTest.class.getName());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void sharedModulesAreInstalledOnce() {
+    Injector injector =
+        Guice.createInjector(new FirstModule(), new SequentialModule(), new SecondModule());
+    assertThat(injector.getInstance(new Key<Set<String>>() {})).containsExactly("shared");
+    assertThat(injector.getInstance(Key.get(String.class, Names.named("second")))).isEqualTo("2");
+  }
+
+  @Test
+  public void sharedModulesAreInstalledOnceBetweenThreadSafeModules() {
+    @ThreadSafeModule
+    class AlsoShares extends AbstractModule {
+      @Override
+      protected void configure() {
+        install(new SharedModule());
+      }
+    }
+    List<Element> elements =
+        Elements.getElements(new SecondModule(), new AlsoShares(), new FirstModule());
+    int sharedModuleBindings = 0;
+    for (Element element : elements) {
+      if (((ElementSource) element.getSource())
+          .getModuleClassNames()
+          .contains(SharedModule.class.getName())) {
+        sharedModuleBindings++;
+      }
+    }
+    assertThat(sharedModuleBindings)
+        .isEqualTo(Elements.getElements(new SharedModule()).size());
+  }
+
+  @Test
+  public void threadSafeModulesAreConfiguredOnceWhenTheyInstallAnInstalledModule() {
+    AtomicInteger configured = new AtomicInteger();
+    @ThreadSafeModule
+    class CountsConfigure extends AbstractModule {
+      @Override
+      protected void configure() {
+        configured.incrementAndGet();
+        bindConstant().annotatedWith(Names.named("counted")).to("c");
+        install(new SharedModule());
+      }
+    }
+    Injector injector =
+        Guice.createInjector(new SequentialModule(), new CountsConfigure(), new FirstModule());
+    assertThat(configured.get()).isEqualTo(1);
+    assertThat(injector.getInstance(new Key<Set<String>>() {})).containsExactly("shared");
+    assertThat(injector.getInstance(Key.get(String.class, Names.named("counted")))).isEqualTo("c");
+    assertThat(injector.getInstance(Key.get(String.class, Names.named("nested")))).isEqualTo("n");
+  }
+
+  /** Module instances shared as constants, whose configure methods take a while. */
+  private static final AbstractModule SHARED_ABSTRACT_MODULE =
+      new AbstractModule() {
+        @Override
+        protected void configure() {
+          bindConstant().annotatedWith(Names.named("abstract")).to("a");
+          sleep();
+        }
+      };
+
+  private static final AtomicInteger configuringSharedModule = new AtomicInteger();
+  private static final AtomicInteger overlappingConfigures = new AtomicInteger();
+
+  private static final Module SHARED_MODULE =
+      binder -> {
+        if (configuringSharedModule.incrementAndGet() > 1) {
+          overlappingConfigures.incrementAndGet();
+        }
+        binder.bindConstant().annotatedWith(Names.named("plain")).to("p");
+        sleep();
+        configuringSharedModule.decrementAndGet();
+      };
+
+  private static void sleep() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Test
+  public void sharedModuleConstantsAreNotConfiguredConcurrently() {
+    @ThreadSafeModule
+    class InstallsConstants extends AbstractModule {
+      @Override
+      protected void configure() {
+        install(SHARED_ABSTRACT_MODULE);
+        install(SHARED_MODULE);
+      }
+    }
+    class AlsoInstallsConstants extends AbstractModule {
+      @Override
+      protected void configure() {
+        install(SHARED_ABSTRACT_MODULE);
+        install(SHARED_MODULE);
+      }
+    }
+    for (int i = 0; i < 5; i++) {
+      Injector injector =
+          Guice.createInjector(
+              new AlsoInstallsConstants(), new InstallsConstants(), new InstallsConstants());
+      assertThat(injector.getInstance(Key.get(String.class, Names.named("abstract"))))
+          .isEqualTo("a");
+      assertThat(injector.getInstance(Key.get(String.class, Names.named("plain"))))
+          .isEqualTo("p");
+    }
+    assertThat(overlappingConfigures.get()).isEqualTo(0);
+  }
+
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface Reversed {}
+
+  @ThreadSafeModule
+  static class PrivateWithScannedMethod extends PrivateModule {
+    @Override
+    protected void configure() {}
+
+    @Reversed
+    @Exposed
+    @Named("reversed")
+    String provideReversed() {
+      return "desrever";
+    }
+  }
+
+  static class ReversingScanner extends ModuleAnnotatedMethodScanner {
+    @Override
+    public Set<? extends Class<? extends Annotation>> annotationClasses() {
+      return ImmutableSet.of(Reversed.class);
+    }
+
+    @Override
+    public <T> Key<T> prepareMethod(
+        Binder binder, Annotation annotation, Key<T> key, InjectionPoint injectionPoint) {
+      return key;
+    }
+  }
+
+  @Test
+  public void scannersApplyToThreadSafeModules() {
+    Injector injector =
+        Guice.createInjector(
+            new PrivateWithScannedMethod(),
+            new FirstModule(),
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                binder().scanModulesForAnnotatedMethods(new ReversingScanner());
+              }
+            });
+    assertThat(injector.getInstance(Key.get(String.class, Names.named("reversed"))))
+        .isEqualTo("desrever");
+    assertThat(injector.getInstance(Key.get(String.class, Names.named("firstProvided"))))
+        .isEqualTo("p1");
+  }
+}
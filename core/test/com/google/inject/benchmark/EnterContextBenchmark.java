@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures top level {@code Provider.get()} calls on unscoped bindings, each of which enters and
+ * closes an {@code InternalContext}.
+ *
+ * <p>Run with the GC profiler to see the allocations per call, {@code gc.alloc.rate.norm} should
+ * only account for the provisioned objects themselves:
+ *
+ * <pre>
+ * mvn -pl core test-compile
+ * java -cp core/target/test-classes:core/target/classes:$(deps) \
+ *     com.google.inject.benchmark.EnterContextBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnterContextBenchmark {
+
+  @Param({"true", "false"})
+  boolean disableCircularProxies;
+
+  private Provider<Leaf> leafProvider;
+  private Provider<Node> nodeProvider;
+
+  @Setup
+  public void setUp() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                if (disableCircularProxies) {
+                  binder().disableCircularProxies();
+                }
+              }
+            });
+    leafProvider = injector.getProvider(Leaf.class);
+    nodeProvider = injector.getProvider(Node.class);
+  }
+
+  @Benchmark
+  public Leaf getLeaf() {
+    return leafProvider.get();
+  }
+
+  @Benchmark
+  public Node getNode() {
+    return nodeProvider.get();
+  }
+
+  static class Leaf {
+    @Inject
+    Leaf() {}
+  }
+
+  static class Node {
+    final Leaf left;
+    final Leaf right;
+
+    @Inject
+    Node(Leaf left, Leaf right) {
+      this.left = left;
+      this.right = right;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(EnterContextBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.benchmark;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.CreationException;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Provides;
+import com.google.inject.Stage;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures injector creation for a module with many bindings.
+ *
+ * <p>Sources are recorded for every binding, but their line numbers, which require reading class
+ * files, are only resolved when an error message is rendered. Compare {@code createInjector} with
+ * {@code renderCreationErrors}, which pays for that resolution:
+ *
+ * <pre>
+ * mvn -pl core test-compile
+ * java -cp core/target/test-classes:core/target/classes:$(deps) \
+ *     com.google.inject.benchmark.InjectorCreationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectorCreationBenchmark {
+
+  @Param({"100", "1000"})
+  int bindings;
+
+  @Param({"DEVELOPMENT", "PRODUCTION"})
+  Stage stage;
+
+  @Benchmark
+  public Injector createInjector() {
+    return Guice.createInjector(stage, new ManyBindingsModule(bindings));
+  }
+
+  @Benchmark
+  public String renderCreationErrors() {
+    try {
+      Guice.createInjector(stage, new ManyBindingsModule(bindings), new BrokenModule());
+      throw new AssertionError();
+    } catch (CreationException expected) {
+      return expected.getMessage();
+    }
+  }
+
+  static class ManyBindingsModule extends AbstractModule {
+    private final int bindings;
+
+    ManyBindingsModule(int bindings) {
+      this.bindings = bindings;
+    }
+
+    @Override
+    protected void configure() {
+      for (int i = 0; i < bindings; i++) {
+        bindConstant().annotatedWith(Names.named("constant" + i)).to(i);
+      }
+      bind(Leaf.class);
+      bind(Node.class);
+    }
+
+    @Provides
+    @Named("provided")
+    String provideString(Node node) {
+      return "provided";
+    }
+  }
+
+  static class BrokenModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bind(Broken.class);
+    }
+  }
+
+  static class Leaf {
+    @Inject
+    Leaf() {}
+  }
+
+  static class Node {
+    @Inject
+    Node(Leaf left, Leaf right) {}
+  }
+
+  static class Broken {
+    @Inject
+    Broken(@Named("missing") String missing) {}
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(InjectorCreationBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
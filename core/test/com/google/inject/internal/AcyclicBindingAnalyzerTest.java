@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import com.google.inject.Provides;
+import com.google.inject.ProvisionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class AcyclicBindingAnalyzerTest {
+
+  private static final Module DISABLE_CIRCULAR_PROXIES =
+      new AbstractModule() {
+        @Override
+        protected void configure() {
+          binder().disableCircularProxies();
+          bind(Root.class);
+          bind(CycleEntry.class);
+          bind(UsesInjector.class);
+          bind(UsesProvidesMethod.class);
+        }
+
+        @Provides
+        Provided provideProvided(Leaf leaf) {
+          return new Provided();
+        }
+      };
+
+  static class Leaf {
+    @Inject
+    Leaf() {}
+  }
+
+  static class Middle {
+    @Inject Leaf fieldLeaf;
+
+    @Inject
+    Middle(Leaf leaf) {}
+  }
+
+  static class Root {
+    @Inject
+    Root(Middle middle, Leaf leaf) {}
+  }
+
+  static class CycleA {
+    @Inject
+    CycleA(CycleB b) {}
+  }
+
+  static class CycleB {
+    @Inject
+    CycleB(CycleA a) {}
+  }
+
+  static class CycleEntry {
+    @Inject
+    CycleEntry(CycleA a) {}
+  }
+
+  static class UsesInjector {
+    @Inject
+    UsesInjector(Injector injector) {}
+  }
+
+  static class Provided {}
+
+  static class UsesProvidesMethod {
+    @Inject
+    UsesProvidesMethod(Provided provided) {}
+  }
+
+  @Test
+  public void acyclicConstructorsAreMarked() {
+    Injector injector = Guice.createInjector(DISABLE_CIRCULAR_PROXIES);
+    assertThat(isAcyclic(injector, Root.class)).isTrue();
+    assertThat(isAcyclic(injector, Middle.class)).isTrue();
+    assertThat(isAcyclic(injector, Leaf.class)).isTrue();
+    assertThat(injector.getInstance(Root.class)).isNotNull();
+    assertThat(injector.getInstance(Middle.class).fieldLeaf).isNotNull();
+  }
+
+  @Test
+  public void constructorsInACycleAreNotMarked() {
+    Injector injector = Guice.createInjector(DISABLE_CIRCULAR_PROXIES);
+    assertThat(isAcyclic(injector, CycleA.class)).isFalse();
+    assertThat(isAcyclic(injector, CycleB.class)).isFalse();
+    // CycleEntry reaches the cycle but isn't part of it.
+    assertThat(isAcyclic(injector, CycleEntry.class)).isTrue();
+
+    ProvisionException expected =
+        assertThrows(ProvisionException.class, () -> injector.getInstance(CycleEntry.class));
+    assertThat(expected).hasMessageThat().contains("circular dependencies are disabled");
+  }
+
+  @Test
+  public void constructorsReachingUserCodeAreNotMarked() {
+    Injector injector = Guice.createInjector(DISABLE_CIRCULAR_PROXIES);
+    assertThat(isAcyclic(injector, UsesInjector.class)).isFalse();
+    assertThat(isAcyclic(injector, UsesProvidesMethod.class)).isFalse();
+  }
+
+  @Test
+  public void nothingIsMarkedWithCircularProxiesEnabled() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Root.class);
+              }
+            });
+    assertThat(isAcyclic(injector, Root.class)).isFalse();
+    assertThat(isAcyclic(injector, Leaf.class)).isFalse();
+  }
+
+  private static boolean isAcyclic(Injector injector, Class<?> type) {
+    ConstructorBindingImpl<?> binding = (ConstructorBindingImpl<?>) injector.getBinding(type);
+    return binding.getConstructorInjector().isAcyclic();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.name.Names;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class FrozenBindingTableTest {
+
+  @Test
+  public void findsEveryBinding() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                for (int i = 0; i < 1000; i++) {
+                  bindConstant().annotatedWith(Names.named("constant" + i)).to(i);
+                }
+              }
+            });
+    Map<Key<?>, Binding<?>> bindings = injector.getBindings();
+    FrozenBindingTable table = new FrozenBindingTable(bindings);
+
+    for (Map.Entry<Key<?>, Binding<?>> entry : bindings.entrySet()) {
+      assertThat(table.get(entry.getKey())).isSameInstanceAs(entry.getValue());
+    }
+    // Equal keys find the bindings too, not only the keys they were stored with
+    assertThat(table.get(Key.get(Integer.class, Names.named("constant123"))))
+        .isSameInstanceAs(bindings.get(Key.get(Integer.class, Names.named("constant123"))));
+    assertThat(table.get(Key.get(Integer.class, Names.named("constant1000")))).isNull();
+    assertThat(table.get(Key.get(Long.class, Names.named("constant1")))).isNull();
+
+    Map<Key<?>, BindingImpl<?>> copy = new HashMap<>();
+    table.copyTo(copy);
+    assertThat(copy).isEqualTo(bindings);
+  }
+
+  @Test
+  public void childInjectorsFindTheBindingsOfTheirAncestors() {
+    Injector injector = Guice.createInjector(constant("root", 0));
+    for (int i = 1; i <= 5; i++) {
+      injector = injector.createChildInjector(constant("level" + i, i));
+    }
+    // A just-in-time binding created in the root after its children were frozen
+    injector.getInstance(Unbound.class);
+
+    for (int i = 1; i <= 5; i++) {
+      assertThat(injector.getInstance(Key.get(Integer.class, Names.named("level" + i))))
+          .isEqualTo(i);
+    }
+    assertThat(injector.getInstance(Key.get(Integer.class, Names.named("root")))).isEqualTo(0);
+    assertThat(injector.getInstance(Injector.class)).isSameInstanceAs(injector);
+    assertThat(injector.getParent().getInstance(Injector.class))
+        .isSameInstanceAs(injector.getParent());
+    assertThat(injector.getExistingBinding(Key.get(Unbound.class))).isNotNull();
+    assertThat(injector.getExistingBinding(Key.get(String.class, Names.named("root")))).isNull();
+  }
+
+  @Test
+  public void emptyTable() {
+    FrozenBindingTable table = new FrozenBindingTable(ImmutableMap.of());
+    assertThat(table.get(Key.get(String.class))).isNull();
+  }
+
+  static class Unbound {}
+
+  private static AbstractModule constant(String name, int value) {
+    return new AbstractModule() {
+      @Override
+      protected void configure() {
+        bindConstant().annotatedWith(Names.named(name)).to(value);
+      }
+    };
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.inject.Guice;
+import com.google.inject.GraphScoped;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+import com.google.inject.ProvisionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link GraphScope}. */
+@RunWith(JUnit4.class)
+public final class GraphScopeTest {
+
+  static class Shared {}
+
+  static class AlsoShared {}
+
+  @Test
+  public void closedChildInjectorsFreeTheirSlots() {
+    InjectorImpl parent =
+        (InjectorImpl)
+            Guice.createInjector(binder -> binder.bind(Shared.class).in(GraphScoped.class));
+    assertThat(parent.graphScopeSlots.cardinality()).isEqualTo(1);
+
+    for (int i = 0; i < 100; i++) {
+      Injector child =
+          parent.createChildInjector(binder -> binder.bind(AlsoShared.class).in(GraphScoped.class));
+      assertThat(child.getInstance(AlsoShared.class)).isNotNull();
+      assertThat(parent.graphScopeSlots.length()).isEqualTo(2);
+      child.close();
+    }
+
+    assertThat(parent.graphScopeSlots.cardinality()).isEqualTo(1);
+    assertThat(parent.getInstance(Shared.class)).isNotNull();
+  }
+
+  @Test
+  public void providersOfClosedInjectorsDontUseTheirFreedSlots() {
+    Injector parent = Guice.createInjector();
+    Injector child =
+        parent.createChildInjector(binder -> binder.bind(Shared.class).in(GraphScoped.class));
+    Provider<Shared> escaped = child.getProvider(Shared.class);
+    child.close();
+
+    Injector reusesTheSlot =
+        parent.createChildInjector(binder -> binder.bind(AlsoShared.class).in(GraphScoped.class));
+    ProvisionException expected = assertThrows(ProvisionException.class, escaped::get);
+    assertThat(expected).hasCauseThat().isInstanceOf(IllegalStateException.class);
+    assertThat(reusesTheSlot.getInstance(AlsoShared.class)).isNotNull();
+  }
+}
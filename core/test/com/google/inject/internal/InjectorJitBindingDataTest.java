@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.inject.Asserts.awaitClear;
+import static com.google.inject.internal.InjectorJitBindingData.MAX_MISSING_JIT_BINDINGS_FOR_CHILDREN;
+
+import com.google.common.collect.Iterables;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Key;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link InjectorJitBindingData}. */
+@RunWith(JUnit4.class)
+public final class InjectorJitBindingDataTest {
+
+  static class Bound {}
+
+  static class NeedsName {
+    @Inject
+    NeedsName(@Named("name") String name) {}
+  }
+
+  static class BindsBound extends AbstractModule {
+    @Override
+    protected void configure() {
+      bind(Bound.class);
+    }
+  }
+
+  static class ChildModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      install(new BindsBound());
+      bindConstant().annotatedWith(Names.named("name")).to("child");
+    }
+  }
+
+  @Test
+  public void closeDropsJitBindingsAndCachesAndReleasesBannedKeys() {
+    InjectorImpl parent = (InjectorImpl) Guice.createInjector();
+    InjectorImpl child =
+        (InjectorImpl)
+            parent.createChildInjector(
+                binder -> {
+                  binder.bind(Bound.class);
+                  binder.bindConstant().annotatedWith(Names.named("name")).to("child");
+                });
+    child.getInstance(NeedsName.class);
+    assertThat(parent.getJitBindingData().isBannedKey(Key.get(Bound.class))).isTrue();
+    assertThat(child.getJitBindingData().getJitBindings()).containsKey(Key.get(NeedsName.class));
+    assertThat(child.constructors.getAll()).isNotEmpty();
+    assertThat(child.membersInjectorStore.getAll()).isNotEmpty();
+
+    child.close();
+
+    assertThat(parent.getJitBindingData().isBannedKey(Key.get(Bound.class))).isFalse();
+    assertThat(parent.getJitBindingData().isBannedKey(Key.get(String.class, Names.named("name"))))
+        .isFalse();
+    assertThat(child.getJitBindingData().getJitBindings()).isEmpty();
+    assertThat(child.constructors.getAll()).isEmpty();
+    assertThat(child.membersInjectorStore.getAll()).isEmpty();
+  }
+
+  @Test
+  public void closedChildStillReferencedDoesNotRetainItsJitBindingsOrBannedKeys() {
+    InjectorImpl parent = (InjectorImpl) Guice.createInjector();
+    InjectorImpl child = (InjectorImpl) parent.createChildInjector(new ChildModule());
+    child.getInstance(NeedsName.class);
+    WeakReference<BindingImpl<?>> jitBindingRef =
+        new WeakReference<>(
+            child.getJitBindingData().getJitBindings().get(Key.get(NeedsName.class)));
+    // The parent keeps the source of a banned key in the form it reports it, which for a binding
+    // in a nested module is a string that only the banned key entry references.
+    WeakReference<Object> bannedSourceRef =
+        new WeakReference<>(
+            Iterables.getOnlyElement(
+                parent.getJitBindingData().getSourcesForBannedKey(Key.get(Bound.class))));
+
+    child.close();
+
+    // The child is still referenced, but neither its binding nor its banned key are.
+    awaitClear(jitBindingRef);
+    awaitClear(bannedSourceRef);
+    assertThat(child.getJitBindingData().getJitBindings()).isEmpty();
+    assertThat(parent.getJitBindingData().isBannedKey(Key.get(Bound.class))).isFalse();
+  }
+
+  @Test
+  public void missingJitBindingsForChildrenAreBounded() {
+    InjectorJitBindingData data = new InjectorJitBindingData(Optional.empty());
+    int last = MAX_MISSING_JIT_BINDINGS_FOR_CHILDREN;
+    for (int i = 0; i <= last; i++) {
+      data.addMissingJitBindingForChildren(missingKey(i));
+    }
+
+    assertThat(data.isMissingJitBindingForChildren(missingKey(0))).isFalse();
+    assertThat(data.isMissingJitBindingForChildren(missingKey(1))).isTrue();
+    assertThat(data.isMissingJitBindingForChildren(missingKey(last))).isTrue();
+  }
+
+  private static Key<String> missingKey(int i) {
+    return Key.get(String.class, Names.named("missing" + i));
+  }
+}
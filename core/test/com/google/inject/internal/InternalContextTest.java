@@ -163,6 +163,60 @@ public final class InternalContextTest {
     assertThat(context.get(18)).isEqualTo(2);
   }
 
+  @Test
+  public void testReuseOrCreate_reusesIdleContext() throws InternalProvisionException {
+    Object[] toClear = new Object[2];
+    InternalContext context = InternalContext.reuseOrCreate(true, toClear);
+    toClear[InternalContext.ACTIVE_CONTEXT] = context;
+    context.tryStartConstruction(1, DEP);
+    context.finishConstruction(1, "result");
+    context.close();
+    assertThat(toClear[InternalContext.ACTIVE_CONTEXT]).isNull();
+
+    assertThat(InternalContext.reuseOrCreate(true, toClear)).isSameInstanceAs(context);
+  }
+
+  @Test
+  public void testReuseOrCreate_doesNotReuseContextWithDifferentProxyMode() {
+    Object[] toClear = new Object[2];
+    InternalContext context = InternalContext.reuseOrCreate(true, toClear);
+    context.close();
+
+    InternalContext other = InternalContext.reuseOrCreate(false, toClear);
+    assertThat(other).isNotSameInstanceAs(context);
+    assertThat(other.areCircularProxiesEnabled()).isTrue();
+  }
+
+  @Test
+  public void testReuseOrCreate_doesNotReuseContextWithConstructionInProgress()
+      throws InternalProvisionException {
+    Object[] toClear = new Object[2];
+    InternalContext context = InternalContext.reuseOrCreate(false, toClear);
+    // Simulate a construction that never finished.
+    context.tryStartConstruction(1, DEP);
+    context.close();
+
+    assertThat(InternalContext.reuseOrCreate(false, toClear)).isNotSameInstanceAs(context);
+  }
+
+  @Test
+  public void testReuseOrCreate_doesNotReuseContextWithLargeTable()
+      throws InternalProvisionException {
+    Object[] toClear = new Object[2];
+    InternalContext context = InternalContext.reuseOrCreate(true, toClear);
+    // Grow the table well past the reusable size.
+    for (int i = 1; i < 200; i++) {
+      context.tryStartConstruction(i, DEP);
+    }
+    for (int i = 1; i < 200; i++) {
+      context.finishConstruction(i, null);
+    }
+    context.close();
+
+    assertThat(toClear[InternalContext.IDLE_CONTEXT]).isNull();
+    assertThat(InternalContext.reuseOrCreate(true, toClear)).isNotSameInstanceAs(context);
+  }
+
   /**
    * Insert a bunch of keys and check that our 2 table implementations are storing them in the same
    * place.
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.TypeLiteral;
+import com.google.inject.spi.Message;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ParallelBindingInitializerTest {
+
+  static class Valid {
+    @Inject String field;
+
+    @Inject
+    void method(Integer value) {}
+  }
+
+  static class Invalid {
+    @Inject String field;
+
+    @Inject
+    <T> void typeParameters(T value) {}
+  }
+
+  @Test
+  public void prescannedInjectionPointsMatchSequentialScan() throws Exception {
+    assertThat(scan(TypeLiteral.get(Valid.class), true))
+        .isEqualTo(scan(TypeLiteral.get(Valid.class), false));
+  }
+
+  @Test
+  public void prescannedFailuresMatchSequentialScan() throws Exception {
+    List<String> sequential = scan(TypeLiteral.get(Invalid.class), false);
+    assertThat(sequential).isNotEmpty();
+    assertThat(scan(TypeLiteral.get(Invalid.class), true)).isEqualTo(sequential);
+  }
+
+  /**
+   * Creates the members injector of {@code type} in a new store, prescanning the type on another
+   * thread first if {@code prescan} is true, and returns its injection points and errors.
+   */
+  private static List<String> scan(TypeLiteral<?> type, boolean prescan) throws Exception {
+    MembersInjectorStore store = newStore();
+    if (prescan) {
+      store.startPrescan();
+      CompletableFuture.runAsync(() -> store.prescan(type)).get();
+    }
+    Errors errors = new Errors();
+    ImmutableList.Builder<String> result = ImmutableList.builder();
+    try {
+      result.add(store.get(type, errors).getInjectionPoints().toString());
+    } catch (ErrorsException expected) {
+      // the errors are compared below
+    } finally {
+      store.stopPrescan();
+    }
+    return result
+        .addAll(errors.getMessages().stream().map(Message::getMessage).collect(Collectors.toList()))
+        .build();
+  }
+
+  private static MembersInjectorStore newStore() {
+    InjectorImpl injector = (InjectorImpl) Guice.createInjector();
+    return new MembersInjectorStore(injector, ImmutableList.of());
+  }
+}
@@ -65,4 +65,21 @@ public final class ContinuousStopwatchTest {
     assertThat(logs.get(0).getMessage()).isEqualTo("label one: 1ms");
     assertThat(logs.get(1).getMessage()).isEqualTo("label two: 2ms");
   }
+
+  @Test
+  public void phaseNanos() throws Exception {
+    FakeTicker fakeTicker = new FakeTicker();
+    ContinuousStopwatch continuousStopwatch =
+        new ContinuousStopwatch(Stopwatch.createUnstarted(fakeTicker));
+
+    fakeTicker.advance(1, MILLISECONDS);
+    continuousStopwatch.resetAndLog("label one");
+    fakeTicker.advance(2, MILLISECONDS);
+    continuousStopwatch.resetAndLog("label two");
+    fakeTicker.advance(3, MILLISECONDS);
+    continuousStopwatch.resetAndLog("label one");
+    assertThat(continuousStopwatch.getPhaseNanos())
+        .containsExactly("label one", 4_000_000L, "label two", 2_000_000L)
+        .inOrder();
+  }
 }
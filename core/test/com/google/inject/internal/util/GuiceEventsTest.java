@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.internal.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class GuiceEventsTest {
+
+  static class Foo {}
+
+  @Test
+  public void recordsInjectorCreationAndJitBindings() throws Exception {
+    List<RecordedEvent> events = new ArrayList<>();
+    Path file = Files.createTempFile("guice", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("com.google.inject.InjectorCreationPhase");
+      recording.enable("com.google.inject.JitBinding");
+      recording.enable("com.google.inject.Provision").withoutThreshold();
+      recording.start();
+      Injector injector = Guice.createInjector();
+      injector.getInstance(Foo.class);
+      recording.stop();
+      recording.dump(file);
+      events.addAll(RecordingFile.readAllEvents(file));
+    } finally {
+      Files.delete(file);
+    }
+
+    List<String> phases = new ArrayList<>();
+    List<String> keys = new ArrayList<>();
+    List<String> sources = new ArrayList<>();
+    for (RecordedEvent event : events) {
+      switch (event.getEventType().getName()) {
+        case "com.google.inject.InjectorCreationPhase":
+          phases.add(event.getString("phase"));
+          break;
+        case "com.google.inject.JitBinding":
+          keys.add(event.getString("key"));
+          break;
+        case "com.google.inject.Provision":
+          sources.add(event.getString("source"));
+          break;
+        default:
+          break;
+      }
+    }
+    assertThat(phases).contains("Binding initialization");
+    assertThat(keys).contains("Key[type=" + Foo.class.getName() + ", annotation=[none]]");
+    assertThat(sources).isNotEmpty();
+  }
+}
@@ -18,6 +18,8 @@ package com.google.inject.internal.util;
 
 import static com.google.inject.Asserts.assertContains;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
@@ -25,6 +27,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.CreationException;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Provides;
 import com.google.inject.internal.InternalFlags;
 import com.google.inject.matcher.Matchers;
 import java.lang.reflect.Modifier;
@@ -175,4 +178,59 @@ public class LineNumbersTest {
     Object instance = injector.getInstance(generated);
     assertEquals(instance.getClass(), generated);
   }
+
+  static class C {
+    @Inject
+    C(D d) {}
+  }
+
+  static class D {
+    @Inject
+    D() {}
+
+    @Inject
+    void inject(E e) {}
+  }
+
+  static class E {}
+
+  static class F {
+    @Inject
+    F(B b) {}
+  }
+
+  @Test
+  public void testLineNumbersAreOnlyReadForErrorMessages() {
+    Injector injector =
+        Guice.createInjector(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(C.class);
+              }
+
+              @Provides
+              String provideString(C c) {
+                return "";
+              }
+            });
+    injector.getInstance(String.class);
+    assertFalse(StackTraceElements.lineNumbersCache.asMap().containsKey(C.class));
+    assertFalse(StackTraceElements.lineNumbersCache.asMap().containsKey(D.class));
+
+    try {
+      Guice.createInjector(
+          new AbstractModule() {
+            @Override
+            protected void configure() {
+              bind(F.class);
+            }
+          });
+      fail();
+    } catch (CreationException expected) {
+      assertFalse(StackTraceElements.lineNumbersCache.asMap().containsKey(F.class));
+      assertContains(expected.getMessage(), "LineNumbersTest$F.<init>(LineNumbersTest.java:");
+      assertTrue(StackTraceElements.lineNumbersCache.asMap().containsKey(F.class));
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package com.google.inject.spi;
 
+import static com.google.inject.internal.InternalFlags.getIncludeStackTraceOption;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import com.google.inject.AbstractModule;
@@ -7,6 +8,8 @@ import com.google.inject.Binder;
 import com.google.inject.Binding;
 import com.google.inject.BindingAnnotation;
 import com.google.inject.Module;
+import com.google.inject.internal.InternalFlags.IncludeStackTraceOption;
+import com.google.inject.name.Names;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -47,6 +50,51 @@ public class ElementSourceTest extends TestCase {
     fail("The test should not reach this line.");
   }
 
+  public void testSourcesAreSharedByElementsFromTheSameCallSite() {
+    List<Element> elements =
+        Elements.getElements(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                for (int i = 0; i < 3; i++) {
+                  bindConstant().annotatedWith(Names.named("constant" + i)).to(i);
+                }
+                bindConstant().annotatedWith(Names.named("other")).to(-1);
+              }
+            });
+    ElementSource first = (ElementSource) elements.get(0).getSource();
+    ElementSource other = (ElementSource) elements.get(3).getSource();
+    assertSame(first.moduleSource, other.moduleSource);
+    if (getIncludeStackTraceOption() == IncludeStackTraceOption.OFF) {
+      // Without a call site, every element gets its own source
+      assertNotSame(first, elements.get(1).getSource());
+      return;
+    }
+    assertSame(first, elements.get(1).getSource());
+    assertSame(first, elements.get(2).getSource());
+    assertNotSame(first, other);
+    StackTraceElement firstCaller = (StackTraceElement) first.getDeclaringSource();
+    StackTraceElement otherCaller = (StackTraceElement) other.getDeclaringSource();
+    assertEquals(firstCaller.getLineNumber() + 2, otherCaller.getLineNumber());
+  }
+
+  public void testModulesOfTheSameClassShareTheirModuleSource() {
+    List<Element> elements =
+        Elements.getElements(
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                install(new Named("a"));
+                install(new Named("b"));
+              }
+            });
+    assertEquals(2, elements.size());
+    ElementSource a = (ElementSource) elements.get(0).getSource();
+    ElementSource b = (ElementSource) elements.get(1).getSource();
+    assertSame(a.moduleSource, b.moduleSource);
+    assertEquals(a.getDeclaringSource(), b.getDeclaringSource());
+  }
+
   private ModuleSource createModuleSource() {
     // First module
     ModuleSource moduleSource = new ModuleSource(A.class, /* permitMap = */ null);
@@ -75,6 +123,19 @@ public class ElementSourceTest extends TestCase {
   @BindingAnnotation
   @interface SampleAnnotation {}
 
+  private static class Named extends AbstractModule {
+    private final String name;
+
+    Named(String name) {
+      this.name = name;
+    }
+
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(Names.named(name)).to(name);
+    }
+  }
+
   private static class C extends AbstractModule {
     @Override
     public void configure() {
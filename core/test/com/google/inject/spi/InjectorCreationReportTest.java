@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Stage;
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class InjectorCreationReportTest {
+
+  static class Slow {
+    Slow() throws InterruptedException {
+      Thread.sleep(20);
+    }
+  }
+
+  static class Fast {}
+
+  static class SlowModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      install(new InnerModule());
+      bind(Slow.class).asEagerSingleton();
+      bind(Fast.class).asEagerSingleton();
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+    }
+  }
+
+  static class InnerModule extends AbstractModule {}
+
+  static class AsksForReport {
+    @Inject
+    AsksForReport(Injector injector) {
+      InjectorCreationReport.of(injector);
+    }
+  }
+
+  @Test
+  public void reportsPhasesModulesAndEagerSingletons() {
+    Injector injector = Guice.createInjector(new SlowModule());
+    InjectorCreationReport report = InjectorCreationReport.of(injector);
+
+    assertThat(report.getPhaseDurations().keySet())
+        .containsAtLeast("Module execution", "Binding initialization", "Preloading singletons")
+        .inOrder();
+    assertThat(report.getTotalDuration()).isAtLeast(Duration.ofMillis(40));
+
+    assertThat(report.getModuleConfigureDurations().keySet())
+        .containsAtLeast(SlowModule.class, InnerModule.class)
+        .inOrder();
+    assertThat(report.getModuleConfigureDurations().get(SlowModule.class))
+        .isAtLeast(Duration.ofMillis(20));
+    assertThat(report.getModuleConfigureDurations().get(InnerModule.class))
+        .isLessThan(Duration.ofMillis(20));
+
+    assertThat(report.getSlowestEagerSingletons().keySet())
+        .containsAtLeast(Key.get(Slow.class), Key.get(Fast.class))
+        .inOrder();
+    assertThat(report.getSlowestEagerSingletons().get(Key.get(Slow.class)))
+        .isAtLeast(Duration.ofMillis(20));
+    assertThat(report.getSlowestBindingInitializations()).containsKey(Key.get(Slow.class));
+  }
+
+  @Test
+  public void toolStageInjector() {
+    Injector injector = Guice.createInjector(Stage.TOOL, new SlowModule());
+    InjectorCreationReport report = InjectorCreationReport.of(injector);
+    assertThat(report.getSlowestEagerSingletons()).isEmpty();
+    assertThat(report.getModuleConfigureDurations()).containsKey(SlowModule.class);
+  }
+
+  @Test
+  public void childInjectorHasItsOwnReport() {
+    Injector parent = Guice.createInjector(new SlowModule());
+    Injector child = parent.createChildInjector(new InnerModule());
+    assertThat(InjectorCreationReport.of(child).getModuleConfigureDurations())
+        .doesNotContainKey(SlowModule.class);
+  }
+
+  @Test
+  public void notAvailableWhileCreatingTheInjector() {
+    Exception e =
+        assertThrows(
+            Exception.class,
+            () ->
+                Guice.createInjector(
+                    new AbstractModule() {
+                      @Override
+                      protected void configure() {
+                        bind(AsksForReport.class).asEagerSingleton();
+                      }
+                    }));
+    assertThat(e).hasMessageThat().contains("The injector is still being created");
+  }
+}
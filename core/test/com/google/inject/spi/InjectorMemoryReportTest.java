@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import com.google.inject.name.Names;
+import com.google.inject.spi.InjectorMemoryReport.Category;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class InjectorMemoryReportTest {
+
+  static class ManyConstantsModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      for (int i = 0; i < 100; i++) {
+        bindConstant().annotatedWith(Names.named("constant" + i)).to(i);
+      }
+    }
+  }
+
+  static class OneConstantModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bindConstant().annotatedWith(Names.named("one")).to(1);
+    }
+  }
+
+  static class Big {
+    final byte[] bytes = new byte[1 << 20];
+  }
+
+  static class Injected {
+    @Inject Big big;
+
+    @Inject
+    Injected() {}
+  }
+
+  @Test
+  public void reportsBindingsByModule() {
+    Injector injector = Guice.createInjector(new ManyConstantsModule(), new OneConstantModule());
+    InjectorMemoryReport report = InjectorMemoryReport.of(injector);
+
+    assertThat(report.getBytesByCategory().get(Category.BINDINGS)).isGreaterThan(0L);
+    assertThat(report.getBytesByCategory().get(Category.SOURCES)).isGreaterThan(0L);
+    assertThat(report.getBytesByModule().keySet())
+        .containsAtLeast(ManyConstantsModule.class.getName(), OneConstantModule.class.getName())
+        .inOrder();
+    assertThat(report.getBytesByModule().get(ManyConstantsModule.class.getName()))
+        .isGreaterThan(10 * report.getBytesByModule().get(OneConstantModule.class.getName()));
+    assertThat(report.toString()).contains(ManyConstantsModule.class.getName());
+  }
+
+  @Test
+  public void reportsJitBindingsAndCachedInjectors() {
+    Injector injector = Guice.createInjector();
+    InjectorMemoryReport before = InjectorMemoryReport.of(injector);
+    assertThat(before.getBytesByCategory().get(Category.JIT_BINDINGS)).isEqualTo(0L);
+
+    injector.getInstance(Injected.class);
+    InjectorMemoryReport after = InjectorMemoryReport.of(injector);
+    assertThat(after.getBytesByCategory().get(Category.JIT_BINDINGS)).isGreaterThan(0L);
+    assertThat(after.getBytesByCategory().get(Category.MEMBERS_INJECTORS)).isGreaterThan(0L);
+    assertThat(after.getBytesByCategory().get(Category.CONSTRUCTOR_INJECTORS)).isGreaterThan(0L);
+    assertThat(after.getTotalBytes()).isGreaterThan(before.getTotalBytes());
+  }
+
+  @Test
+  public void instancesAreNotCounted() {
+    Injector injector =
+        Guice.createInjector(
+            Stage.PRODUCTION,
+            new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(Big.class).toInstance(new Big());
+              }
+            });
+    assertThat(InjectorMemoryReport.of(injector).getTotalBytes()).isLessThan(1L << 20);
+  }
+}
@@ -36,6 +36,19 @@ public class ModuleSourceTest extends TestCase {
     checkSizeOne(moduleSource);
   }
 
+  public void testChildrenOfTheSameClassAreShared() {
+    ModuleSource moduleSource = createWithSizeOne();
+    assertSame(moduleSource.createChild(B.class), moduleSource.createChild(B.class));
+    assertNotSame(moduleSource.createChild(B.class), moduleSource.createChild(C.class));
+  }
+
+  public void testFinishedModuleSourcesDropTheirChildren() {
+    ModuleSource moduleSource = createWithSizeOne();
+    ModuleSource child = moduleSource.createChild(B.class);
+    moduleSource.finishRecording();
+    assertNotSame(child, moduleSource.createChild(B.class));
+  }
+
   private void checkSizeOne(ModuleSource moduleSource) {
     assertEquals(1, moduleSource.size());
   }
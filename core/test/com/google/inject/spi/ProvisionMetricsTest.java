@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.ProvisionException;
+import com.google.inject.Provides;
+import com.google.inject.internal.InternalFlags;
+import com.google.inject.name.Named;
+import com.google.inject.name.Names;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProvisionMetricsTest {
+
+  static class Foo {}
+
+  static class Failing {
+    Failing() {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  static class MetricsModule extends AbstractModule {
+    @Override
+    protected void configure() {
+      bind(String.class).annotatedWith(Names.named("provider")).toProvider(() -> "provided");
+    }
+
+    @Provides
+    @Named("method")
+    String provideString(Foo foo) {
+      return "method";
+    }
+  }
+
+  @Test
+  public void countsProvisionsOfEachBinding() {
+    assumeTrue(InternalFlags.isProvisionMetricsEnabled());
+    Injector injector = Guice.createInjector(new MetricsModule());
+    for (int i = 0; i < 3; i++) {
+      injector.getInstance(Key.get(String.class, Names.named("method")));
+      injector.getInstance(Key.get(String.class, Names.named("provider")));
+    }
+
+    ImmutableMap<Key<?>, ProvisionMetrics> metrics = ProvisionMetrics.snapshot(injector);
+    assertThat(metrics.get(Key.get(String.class, Names.named("method"))).getProvisionCount())
+        .isEqualTo(3);
+    assertThat(metrics.get(Key.get(String.class, Names.named("provider"))).getProvisionCount())
+        .isEqualTo(3);
+    ProvisionMetrics foo = metrics.get(Key.get(Foo.class));
+    assertThat(foo.getProvisionCount()).isEqualTo(3);
+    assertThat(foo.getFailureCount()).isEqualTo(0);
+    assertThat(foo.getMaxNanos()).isAtMost(foo.getTotalNanos());
+  }
+
+  @Test
+  public void countsFailures() {
+    assumeTrue(InternalFlags.isProvisionMetricsEnabled());
+    Injector injector = Guice.createInjector();
+    assertThrows(ProvisionException.class, () -> injector.getInstance(Failing.class));
+
+    ProvisionMetrics failing = ProvisionMetrics.snapshot(injector).get(Key.get(Failing.class));
+    assertThat(failing.getProvisionCount()).isEqualTo(1);
+    assertThat(failing.getFailureCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void noMetricsWhenDisabled() {
+    assumeTrue(!InternalFlags.isProvisionMetricsEnabled());
+    Injector injector = Guice.createInjector(new MetricsModule());
+    injector.getInstance(Key.get(String.class, Names.named("method")));
+    assertThat(ProvisionMetrics.snapshot(injector)).isEmpty();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 Google Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.inject.spi;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.Singleton;
+import java.util.concurrent.CountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class SingletonContentionMetricsTest {
+
+  static final CountDownLatch creating = new CountDownLatch(1);
+  static final CountDownLatch release = new CountDownLatch(1);
+
+  @Singleton
+  static class Slow {
+    Slow() throws InterruptedException {
+      creating.countDown();
+      release.await();
+    }
+  }
+
+  @Singleton
+  static class Fast {}
+
+  @Test
+  public void recordsThreadsWaitingForASingleton() throws Exception {
+    Injector injector = Guice.createInjector();
+    Thread creator = new Thread(() -> injector.getInstance(Slow.class));
+    creator.start();
+    creating.await();
+    Thread waiter = new Thread(() -> injector.getInstance(Slow.class));
+    waiter.start();
+    while (waiter.getState() != Thread.State.WAITING) {
+      Thread.sleep(1);
+    }
+    release.countDown();
+    creator.join();
+    waiter.join();
+    injector.getInstance(Fast.class);
+
+    SingletonContentionMetrics slow =
+        SingletonContentionMetrics.snapshot(injector).get(Key.get(Slow.class));
+    assertThat(slow.getContendedAcquisitions()).isEqualTo(1);
+    assertThat(slow.getMaxWaitNanos()).isEqualTo(slow.getTotalWaitNanos());
+    assertThat(slow.getWaitHistogram().values()).containsExactly(1L);
+    // The waiter is woken up after the creation ends, so it may wait longer than the creation.
+    assertThat(slow.getCreationNanos()).isGreaterThan(0L);
+    assertThat(SingletonContentionMetrics.of(injector.getBinding(Fast.class))).isEmpty();
+    assertThat(SingletonContentionMetrics.snapshot(injector)).doesNotContainKey(Key.get(Fast.class));
+  }
+}
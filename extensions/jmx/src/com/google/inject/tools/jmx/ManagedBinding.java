@@ -17,6 +17,8 @@
 package com.google.inject.tools.jmx;
 
 import com.google.inject.Binding;
+import com.google.inject.spi.SingletonContentionMetrics;
+import java.util.Optional;
 
 class ManagedBinding implements ManagedBindingMBean {
 
@@ -40,4 +42,30 @@ class ManagedBinding implements ManagedBindingMBean {
   public String getProvider() {
     return binding.getProvider().toString();
   }
+
+  @Override
+  public long getSingletonContendedAcquisitions() {
+    return singletonContention()
+        .map(SingletonContentionMetrics::getContendedAcquisitions)
+        .orElse(0L);
+  }
+
+  @Override
+  public long getSingletonTotalWaitNanos() {
+    return singletonContention().map(SingletonContentionMetrics::getTotalWaitNanos).orElse(0L);
+  }
+
+  @Override
+  public long getSingletonMaxWaitNanos() {
+    return singletonContention().map(SingletonContentionMetrics::getMaxWaitNanos).orElse(0L);
+  }
+
+  @Override
+  public long getSingletonCreationNanos() {
+    return singletonContention().map(SingletonContentionMetrics::getCreationNanos).orElse(-1L);
+  }
+
+  private Optional<SingletonContentionMetrics> singletonContention() {
+    return SingletonContentionMetrics.of(binding);
+  }
 }
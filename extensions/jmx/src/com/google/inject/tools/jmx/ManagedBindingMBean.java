@@ -31,4 +31,22 @@ public interface ManagedBindingMBean {
 
   /** Gets the binding key. */
   String getKey();
+
+  /**
+   * Gets the number of times a thread waited for another thread creating this singleton, or 0 if
+   * this isn't a singleton binding.
+   */
+  long getSingletonContendedAcquisitions();
+
+  /** Gets the cumulative time threads waited for this singleton, in nanoseconds. */
+  long getSingletonTotalWaitNanos();
+
+  /** Gets the longest time a thread waited for this singleton, in nanoseconds. */
+  long getSingletonMaxWaitNanos();
+
+  /**
+   * Gets how long creating this singleton took, in nanoseconds, or -1 if no thread waited for it
+   * while it was being created.
+   */
+  long getSingletonCreationNanos();
 }